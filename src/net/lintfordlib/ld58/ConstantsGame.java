@@ -28,6 +28,21 @@ public class ConstantsGame {
 	public static final int NUM_LEVELS = 2;
 	public static final boolean LOCK_ZOOM_TO_ONE = true;
 
+	// projectiles in flight at once, see ProjectilePool
+	public static final int PROJECTILE_POOL_CAPACITY = 256;
+
+	// ---------------------------------------------
+	// Rendering
+	// ---------------------------------------------
+
+	public static final boolean PARALLEL_RASTERIZATION = true;
+	public static final boolean SCANLINE_TRACK_RENDERING = true;
+	public static final boolean PIPELINED_RENDERING = true;
+	public static final boolean DYNAMIC_RESOLUTION = true;
+	public static final float RENDER_TIME_BUDGET_MS = 12.f;
+	public static final long SPRITE_CACHE_BUDGET_BYTES = 4 * 1024 * 1024;
+	public static final boolean FOG_SPRITES = false;
+
 	// ---------------------------------------------
 	// Debug
 	// ---------------------------------------------
@@ -1,18 +1,1028 @@
 package net.lintfordlib.ld58.data;
 
+import java.util.ArrayList;
+import java.util.List;
+
+import net.lintfordlib.core.maths.InterpolationHelper;
+import net.lintfordlib.core.maths.MathHelper;
+
+// The track of a level and everything placed on it (props, entities and the projectile pool). Holds no rendering or
+// input state, so it is shared by the GameScreen and the headless renderer.
 public class GameWorld {
 
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int NUM_LANES = 4;
+	public static final int SEGMENT_LENGTH = 15;
+	public static final int RUMBLE_LENGTH = 2;
+	public static final float ROAD_WIDTH = 300;
+
+	public static final float HIT_FLASH_TIME = 50;
+	public static final float HIT_COOLDOWN_TIME = 300;
+
+	public static class PropDefinition {
+
+		public static final PropDefinition COIN = new PropDefinition(GameTextureNames.COIN_00, false, false, true, 1);
+		public static final PropDefinition WALL = new PropDefinition(GameTextureNames.WALL_00, true, true, false, 0);
+
+		public final int spriteFrameUid;
+		public final boolean immovable;
+		public final boolean pickup;
+		public final int value;
+		public final boolean stopOnCollide;
+
+		private PropDefinition(int spriteFrameUid, boolean immovable, boolean stopOnCollide, boolean pickup, int value) {
+			this.spriteFrameUid = spriteFrameUid;
+			this.immovable = immovable;
+			this.pickup = pickup;
+			this.value = value;
+			this.stopOnCollide = stopOnCollide;
+		}
+	}
+
+	public static class EntityDefinition {
+		public static final EntityDefinition BLOCKER = new EntityDefinition(GameTextureNames.ENEMY_MID, 0f, 1, false);
+		public static final EntityDefinition NORMAL = new EntityDefinition(GameTextureNames.ENEMY_MID, 5f, 2, false);
+		public static final EntityDefinition BLOCKER_SHOOTER = new EntityDefinition(GameTextureNames.ENEMY_HARD, 0f, 3, true);
+		public static final EntityDefinition WALKER_SHOOTER = new EntityDefinition(GameTextureNames.ENEMY_MID, 1f, 1, true);
+
+		public final int spriteFrameUid;
+		public final float moveSpeed;
+		public final int totalLives;
+		public final boolean shoots;
+
+		private EntityDefinition(int spriteFrameUid, float moveSpeed, int totalLives, boolean shoots) {
+			this.spriteFrameUid = spriteFrameUid;
+			this.moveSpeed = moveSpeed;
+			this.totalLives = totalLives;
+			this.shoots = shoots;
+		}
+	}
+
+	public static class ProjectileDefinition {
+
+		// by index, filled by the constructor. Has to be declared before the definitions.
+		private static final List<ProjectileDefinition> DEFINITIONS = new ArrayList<>();
+
+		public static final ProjectileDefinition P_BULLET = new ProjectileDefinition(GameTextureNames.BULLET, 6, 1000);
+		public static final ProjectileDefinition E_BULLET = new ProjectileDefinition(GameTextureNames.BULLET, 2, 2500);
+
+		public final int index; // stored per projectile in ProjectilePool.definition
+		public final int spriteFrameUid;
+		public final float speed;
+		public final float life;
+
+		private ProjectileDefinition(int spriteFrameUid, float speed, float life) {
+			this.index = DEFINITIONS.size();
+			this.spriteFrameUid = spriteFrameUid;
+			this.speed = speed;
+			this.life = life;
+
+			DEFINITIONS.add(this);
+		}
+
+		public static ProjectileDefinition get(int index) {
+			return DEFINITIONS.get(index);
+		}
+	}
+
+	// --------------------------------------
+	// Inner-Classes
+	// --------------------------------------
+
+	// A TrackProjectile is a view onto its slot in the ProjectilePool, and links the projectile into the list of the
+	// segment it is in. Only valid while the projectile is in flight.
+	public class TrackProjectile extends SegmentList.Node<TrackProjectile> {
+
+		public final int slot;
+		public final SegmentCursor cursor = new SegmentCursor(); // segment the projectile is in
+
+		public TrackProjectile(int slot) {
+			this.slot = slot;
+		}
+
+		public boolean isActive() {
+			return mProjectilePool.indexOf(slot) >= 0;
+		}
+
+		public float xOffset() {
+			return mProjectilePool.x[mProjectilePool.indexOf(slot)];
+		}
+
+		public float yOffset() {
+			return mProjectilePool.y[mProjectilePool.indexOf(slot)];
+		}
+
+		public float zOffset() {
+			return mProjectilePool.z[mProjectilePool.indexOf(slot)];
+		}
+
+		// z per simulation tick
+		public float velocity() {
+			return mProjectilePool.velocity[mProjectilePool.indexOf(slot)];
+		}
+
+		public int forwards() {
+			return mProjectilePool.direction[mProjectilePool.indexOf(slot)];
+		}
+
+		public ProjectileDefinition def() {
+			return ProjectileDefinition.get(mProjectilePool.definition[mProjectilePool.indexOf(slot)]);
+		}
+	}
+
+	// moving entities
+	public class TrackEntity extends SegmentList.Node<TrackEntity> {
+
+		public EntityDefinition def;
+
+		public boolean isAlive;
+		public float dyingTimer;
+		public boolean collisionAlive; // can only hit player once
+
+		public float xOffset;
+		public float zOffset;
+		public float percent;
+		public int forwards; // movement direction
+		public int lives;
+		public float hitCooldown;
+		public float flashTimer;
+		public boolean isFlashing;
+
+		public final SegmentCursor cursor = new SegmentCursor(); // segment the entity is in
+
+		public boolean isOnCooldown() {
+			return hitCooldown > 0;
+		}
+
+		public TrackEntity() {
+
+		}
+
+		public void init(EntityDefinition def, float xOffset, float zOffset) {
+			this.def = def;
+			this.xOffset = xOffset;
+			this.zOffset = zOffset;
+			collisionAlive = true;
+			isAlive = true;
+			lives = def.totalLives;
+		}
+
+		// ret true if kill
+		public boolean hit() {
+			if (hitCooldown > 0)
+				return false;
+
+			hitCooldown = HIT_COOLDOWN_TIME;
+			flashTimer = HIT_FLASH_TIME;
+
+			lives--;
+
+			if (lives <= 0) {
+				kill();
+				return true;
+			}
+
+			return false;
+		}
+
+		public void kill() {
+			if (!isAlive)
+				return;
+
+			dyingTimer = 300;
+			isAlive = false;
+			collisionAlive = false;
+		}
+	}
+
+	// static entities
+	public class TrackProp extends SegmentList.Node<TrackProp> {
+
+		public final PropDefinition definition;
+
+		// state data
+		public float xOffset;
+		public boolean collisionAlive; // can only hit player once
+
+		public float dyingTimer;
+		public boolean isActive;
+
+		public TrackProp(PropDefinition definition, float xOffset) {
+			this.definition = definition;
+			this.xOffset = xOffset;
+			this.collisionAlive = true;
+			this.isActive = true;
+		}
+
+		public void reset() {
+			this.collisionAlive = true;
+		}
+
+		public void kill() {
+			if (!isActive)
+				return;
+
+			dyingTimer = 300;
+			isActive = false;
+		}
+
+	}
+
+	// tracks are defined in world space, and projected to screen space for rendering.
+	// A TrackPoint is a view onto its slot in the TrackStore.
+	public class TrackPoint {
+
+		public final int pointIndex;
+
+		public TrackPoint(int pointIndex) {
+			this.pointIndex = pointIndex;
+		}
+
+		public float worldX() {
+			return mTrackStore.worldX[pointIndex];
+		}
+
+		public float worldY() {
+			return mTrackStore.worldY[pointIndex];
+		}
+
+		public float worldZ() {
+			return mTrackStore.worldZ[pointIndex];
+		}
+
+		public float cameraX() {
+			return mTrackStore.cameraX[pointIndex];
+		}
+
+		public float cameraY() {
+			return mTrackStore.cameraY[pointIndex];
+		}
+
+		public float cameraZ() {
+			return mTrackStore.cameraZ[pointIndex];
+		}
+
+		public float screenX() {
+			return mTrackStore.screenX[pointIndex];
+		}
+
+		public float screenY() {
+			return mTrackStore.screenY[pointIndex];
+		}
+
+		public float screenZ() {
+			return mTrackStore.screenZ[pointIndex];
+		}
+
+		public float screenScale() {
+			return mTrackStore.screenScale[pointIndex];
+		}
+
+		public float curvature() {
+			return mTrackStore.curvature[pointIndex];
+		}
+
+		public void curvature(float curvature) {
+			mTrackStore.curvature[pointIndex] = curvature;
+		}
+	}
+
+	// A TrackSegment is a view onto its slot in the TrackStore, plus the objects currently on it.
+	public class TrackSegment {
+
+		public final int index;
+		public boolean isLooped;
+		public boolean isClipped;
+		public float clipSpaceY;
+
+		public int variation;
+
+		public final TrackPoint p0; // closest
+		public final TrackPoint p1; // furthest
+
+		public final SegmentList<TrackEntity> entities = new SegmentList<>();
+		public final SegmentList<TrackProp> props = new SegmentList<>();
+		public final SegmentList<TrackProjectile> projectiles = new SegmentList<>();
+
+		public TrackSegment(float curve, float endHeight) {
+			final var segmentIndex = mTrackStore.size();
+			this.index = mTrackStore.addSegment(curve, mTrackStore.lastHeight(), endHeight, segmentIndex * SEGMENT_LENGTH, (segmentIndex + 1) * SEGMENT_LENGTH);
+
+			p0 = new TrackPoint(index * 2);
+			p1 = new TrackPoint(index * 2 + 1);
+		}
+
+		public float curve() {
+			return mTrackStore.curve[index];
+		}
+
+		public boolean laneFill(int lane) {
+			return mTrackStore.isLaneFilled(index, lane);
+		}
+
+		public void laneFill(int lane, boolean filled) {
+			mTrackStore.setLaneFilled(index, lane, filled);
+		}
+	}
+
 	// --------------------------------------
 	// Variables
 	// --------------------------------------
 
-	
-	
+	private final TrackStore mTrackStore = new TrackStore(NUM_LANES);
+	private final List<TrackSegment> mTrackSegments = new ArrayList<>();
+
+	// global update lists (for movement)
+	private final List<TrackEntity> mEntities = new ArrayList<>();
+	private final ProjectilePool mProjectilePool;
+
+	// slots of the projectiles that may hit something this tick, see updateProjectiles()
+	private final int[] mCollisionCandidates;
+	private int mNumCollisionCandidates;
+
+	private float mTrackLength;
+	private float mLevelEndDist;
+
+	private float mMinLevelSpeed;
+	private float mBaseLevelSpeed;
+	private float mMaxSpeed;
+	private int mLevelMinCoins;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public TrackStore trackStore() {
+		return mTrackStore;
+	}
+
+	public List<TrackSegment> segments() {
+		return mTrackSegments;
+	}
+
+	public int numSegments() {
+		return mTrackSegments.size();
+	}
+
+	public List<TrackEntity> entities() {
+		return mEntities;
+	}
+
+	public ProjectilePool projectilePool() {
+		return mProjectilePool;
+	}
+
+	public int[] collisionCandidates() {
+		return mCollisionCandidates;
+	}
+
+	public int numCollisionCandidates() {
+		return mNumCollisionCandidates;
+	}
+
+	public float trackLength() {
+		return mTrackLength;
+	}
+
+	public float levelEndDist() {
+		return mLevelEndDist;
+	}
+
+	public float minLevelSpeed() {
+		return mMinLevelSpeed;
+	}
+
+	public float baseLevelSpeed() {
+		return mBaseLevelSpeed;
+	}
+
+	public float maxSpeed() {
+		return mMaxSpeed;
+	}
+
+	public int levelMinCoins() {
+		return mLevelMinCoins;
+	}
+
 	// --------------------------------------
 	// Constructor
 	// --------------------------------------
 
-	public GameWorld() {
+	public GameWorld(int projectileCapacity) {
+		mProjectilePool = new ProjectilePool(projectileCapacity, TrackProjectile::new);
+		mCollisionCandidates = new int[projectileCapacity];
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public void buildLevel(int levelNum) {
+		mTrackStore.clear();
+		mTrackSegments.clear();
+
+		mEntities.clear();
+
+		// in flight projectiles belong to the segments of the old track
+		mProjectilePool.freeAll();
+		mNumCollisionCandidates = 0;
+
+		switch (levelNum) {
+		default:
+		case 0:
+			setupWorld_Tutorial();
+			break;
+
+		case 1:
+			setupWorld_0(); // easy
+			break;
+		case 2:
+			setupWorld_1(); // hard
+			break;
+		}
+
+		final var numSegments = mTrackSegments.size();
+		for (int i = 0; i < numSegments; i++) {
+			mTrackSegments.get(i).variation = (i % 2);
+		}
+
+		mTrackStore.buildCurvatureTables();
+
+		mTrackLength = mTrackSegments.size() * SEGMENT_LENGTH;
+		mLevelEndDist = mTrackLength - 10 * SEGMENT_LENGTH;
+	}
+
+	public TrackSegment getSegment(int index) {
+		return mTrackSegments.get(index % mTrackSegments.size());
+	}
+
+	public TrackSegment findSegment(float z) {
+		if (z < 0)
+			return mTrackSegments.get(0);
+
+		final var index = (int) Math.floor((z / SEGMENT_LENGTH)) % mTrackSegments.size();
+		return mTrackSegments.get(index);
+	}
+
+	// moves the cursor on to z, for positions that are followed from tick to tick
+	public TrackSegment findSegment(SegmentCursor cursor, float z) {
+		cursor.moveTo(z, mTrackSegments.size());
+		return mTrackSegments.get(cursor.index());
+	}
+
+	// fraction [0,1) of the way through its segment
+	public static float segmentPercent(float z) {
+		return (z % SEGMENT_LENGTH) / SEGMENT_LENGTH;
+	}
+
+	// world height of the road surface at z
+	public float worldHeight(float z) {
+		return worldHeight(findSegment(z), z);
+	}
+
+	// world height of the road surface at z, when the segment z is in is already known
+	public static float worldHeight(TrackSegment segment, float z) {
+		return InterpolationHelper.lerp(segment.p0.worldY(), segment.p1.worldY(), segmentPercent(z));
+	}
+
+	public static float laneOffsetX(int lane) {
+		lane = MathHelper.clampi(lane, 0, NUM_LANES);
+
+		final var laneI = 1.f / (NUM_LANES * 2);
+		final var laneS = 1.f / (NUM_LANES);
+
+		return -0.5f + laneI + laneS * lane;
+	}
+
+	// returns false when the pool is exhausted (counted in ProjectilePool.overflowCount())
+	public boolean addProjectile(ProjectileDefinition def, float offsetX, float yOffset, float zOffset, int direction) {
+		final var pool = mProjectilePool;
+		final var i = pool.allocate();
+
+		if (i < 0)
+			return false;
+
+		pool.x[i] = offsetX;
+		pool.y[i] = yOffset;
+		pool.z[i] = zOffset;
+		pool.lifetime[i] = def.life;
+		pool.velocity[i] = def.speed * direction;
+		pool.direction[i] = (byte) direction;
+		pool.definition[i] = (byte) def.index;
+
+		final var projectile = pool.active(i);
+		findSegment(projectile.cursor, zOffset).projectiles.add(projectile);
+		return true;
+	}
+
+	// takes the projectile out of its segment and returns it to the pool. Safe to call more than once.
+	public void killProjectile(TrackProjectile projectile) {
+		projectile.unlink();
+		mProjectilePool.free(projectile.slot);
+	}
+
+	// Moves the projectiles in flight on by one tick (dt in ms). The expired ones are returned to the pool, the others
+	// moved into the list of the segment they are in now. Projectiles that share their segment with something they can
+	// hit (entities for forward shots, the player for backward ones) are collected into collisionCandidates().
+	public void updateProjectiles(float dt, TrackSegment playerSegment) {
+		final var pool = mProjectilePool;
+
+		final var expiredCount = pool.integrate(dt);
+		final var expiredSlots = pool.expiredSlots();
+		for (int i = 0; i < expiredCount; i++)
+			killProjectile(pool.projectile(expiredSlots[i]));
+
+		final var numSegments = mTrackSegments.size();
+		final var activeCount = pool.activeCount();
+
+		var numCandidates = 0;
+		for (int i = 0; i < activeCount; i++) {
+			final var projectile = pool.active(i);
+			final var segment = findSegment(projectile.cursor, pool.z[i]);
+
+			if (!segment.projectiles.contains(projectile))
+				segment.projectiles.add(projectile);
+
+			final var hasTarget = pool.direction[i] > 0 ? !segment.entities.isEmpty() : segment == playerSegment;
+			if (hasTarget)
+				mCollisionCandidates[numCandidates++] = projectile.slot;
+		}
+
+		mNumCollisionCandidates = numCandidates;
+	}
+
+	private float lastSegmentHeight() {
+		return mTrackStore.lastHeight();
+	}
+
+	private void addRoad(int enter, int hold, int leave, float curve, float height) {
+
+		var startY = lastSegmentHeight();
+		var endY = startY + (int) (height * SEGMENT_LENGTH);
+		var total = enter + hold + leave;
+
+		for (int i = 0; i < enter; i++) {
+
+			final var curveAmt = InterpolationHelper.easeIn(0, curve, (float) i / (float) enter);
+			final var hillAmt = InterpolationHelper.easeInOut(startY, endY, (float) i / (float) total);
+
+			mTrackSegments.add(new TrackSegment(curveAmt, hillAmt));
+
+		}
+
+		for (int i = 0; i < hold; i++) {
+
+			final var hillAmt = InterpolationHelper.easeInOut(startY, endY, (float) (enter + i) / (float) total);
+
+			mTrackSegments.add(new TrackSegment(curve, hillAmt));
+
+		}
+
+		for (int i = 0; i < leave; i++) {
+
+			final var curveAmt = InterpolationHelper.easeOut(0, curve, (float) i / (float) leave);
+			final var hillAmt = InterpolationHelper.easeInOut(startY, endY, (float) (enter + hold + i) / (float) total);
+
+			mTrackSegments.add(new TrackSegment(curveAmt, hillAmt));
+
+		}
+	}
+
+	private void digOutSegments(int startSegId, int length, int lane) {
+		if (lane < 0 || lane >= NUM_LANES)
+			return;
+
+		for (int i = startSegId; i < startSegId + length; i++) {
+			if (startSegId + length > mTrackSegments.size())
+				return;
+
+			final var segment = getSegment(i);
+			segment.laneFill(lane, false);
+		}
+
+	}
+
+	private void addProp(PropDefinition def, int segmentUid, int laneNum) {
+		final var newProp = new TrackProp(def, laneOffsetX(laneNum));
+		final var segment = getSegment(segmentUid);
+		segment.props.add(newProp);
+	}
+
+	private void addEntity(EntityDefinition def, int segmentUid, int laneNum) {
+		final var newEntity = new TrackEntity();
+		newEntity.init(def, laneOffsetX(laneNum), segmentUid * SEGMENT_LENGTH);
+
+		final var segment = getSegment(segmentUid);
+		segment.entities.add(newEntity);
+
+		// global update list
+		mEntities.add(newEntity);
+	}
+
+	// LEVELS --------------------------------------
+
+	private void setupWorld_Tutorial() { // tutorial
+		mMinLevelSpeed = 50;
+		mBaseLevelSpeed = 100;
+		mMaxSpeed = 200;
+
+		// @formatter:off
+		final var testHillHeight = 40;
+		final var turnMod = 5.f;
+		
+		addRoad(0, 	20, 	0, 		0 * turnMod, 		0);
+		addRoad(0, 	20, 	0, 		0 * turnMod, 		testHillHeight);
+		addRoad(0, 	20, 	0, 		0 * turnMod, 		0);
+		addRoad(0, 	20, 	0, 		0 * turnMod, 		-testHillHeight);
+		addRoad(0, 	20, 	0, 		0 * turnMod, 		0);
+		
+		addRoad(0, 	20, 	0, 		-.3f * turnMod, 	testHillHeight / 2);
+		addRoad(0, 	20, 	10,		-.6f * turnMod, 	testHillHeight / 2);
+		addRoad(0, 	20,   	0, 		1.f * turnMod, 		testHillHeight / 4);
+		addRoad(0, 	20,   	0, 		0f * turnMod, 		-testHillHeight / 4);
+		addRoad(0, 10,  	0, 		-.6f * turnMod, 	testHillHeight);
+		
+		addRoad(0, 30,  	0, 		0f * turnMod, 		0);
+		addRoad(0, 30,  	0, 		0f * turnMod, 		testHillHeight / 2);
+		addRoad(0, 40,  	0, 		0f * turnMod, 		0);
+		// @formatter:on
+
+		addProp(PropDefinition.COIN, 40, 0);
+		addProp(PropDefinition.COIN, 42, 0);
+		addProp(PropDefinition.COIN, 44, 0);
+
+		addProp(PropDefinition.COIN, 40, 3);
+		addProp(PropDefinition.COIN, 42, 3);
+		addProp(PropDefinition.COIN, 44, 3);
+
+		addProp(PropDefinition.COIN, 75, 1);
+		addProp(PropDefinition.COIN, 76, 1);
+		addProp(PropDefinition.COIN, 77, 1);
+		addProp(PropDefinition.COIN, 75, 2);
+		addProp(PropDefinition.COIN, 76, 2);
+		addProp(PropDefinition.COIN, 77, 2);
+
+		addProp(PropDefinition.COIN, 86, 0);
+		addProp(PropDefinition.COIN, 88, 1);
+		addProp(PropDefinition.COIN, 90, 2);
+		addProp(PropDefinition.COIN, 92, 3);
+		addProp(PropDefinition.COIN, 94, 3);
+		addProp(PropDefinition.COIN, 96, 3);
+
+		addProp(PropDefinition.WALL, 98, 2);
+
+		addProp(PropDefinition.WALL, 104, 0);
+		addProp(PropDefinition.WALL, 104, 2);
+
+		addProp(PropDefinition.WALL, 179, 0);
+
+		for (int i = 145; i < 150; i++) {
+			addProp(PropDefinition.COIN, i, 0);
+			addProp(PropDefinition.COIN, i + 20, 2);
+			addProp(PropDefinition.COIN, i + 40, 3);
+
+			digOutSegments(i + 40, 10, 0);
+		}
+
+		digOutSegments(220, 3, 0);
+		digOutSegments(225, 3, 3);
+		digOutSegments(240, 3, 2);
+		digOutSegments(245, 3, 1);
+		digOutSegments(255, 3, 3);
+		addProp(PropDefinition.WALL, 261, 1);
+		addProp(PropDefinition.WALL, 260, 0);
+
+		digOutSegments(257, 3, 0);
+
+		addProp(PropDefinition.COIN, 240, 3);
+		addProp(PropDefinition.COIN, 242, 3);
+
+		addProp(PropDefinition.COIN, 260, 2);
+		addProp(PropDefinition.COIN, 261, 2);
+
+		addEntity(EntityDefinition.BLOCKER, 146, 2);
+		addEntity(EntityDefinition.BLOCKER, 146, 3);
+
+		mLevelMinCoins = 22;
+
+	}
+
+	private void setupWorld_0() { // medium
+		mMinLevelSpeed = 40;
+		mBaseLevelSpeed = 50;
+		mMaxSpeed = 200;
+
+		// @formatter:off
+		final var testHillHeight = 60;
+		final var turnMod = 5.f;
+		
+		addRoad(0, 	20, 	0, 		0 * turnMod, 		0);
+		addRoad(0, 	30, 	0, 		-.4f * turnMod, 		testHillHeight);
+		addRoad(0, 	25, 	0, 		.4f * turnMod, 		-testHillHeight / 2f);
+		addRoad(0, 	20, 	0, 		.4f * turnMod, 		testHillHeight);
+		addRoad(0, 	20, 	0, 		.6f * turnMod, 		0);
+		
+		addRoad(0, 	20, 	0, 		-.3f * turnMod, 	testHillHeight / 2);
+		addRoad(0, 	20, 	10,		-.6f * turnMod, 	testHillHeight / 2);
+		addRoad(0, 	20,   	0, 		1.f * turnMod, 		testHillHeight / 4);
+		addRoad(0, 	20,   	0, 		0f * turnMod, 		-testHillHeight / 4);
+		addRoad(0, 10,  	0, 		-.6f * turnMod, 	testHillHeight);
+		
+		addRoad(0, 30,  	0, 		0f * turnMod, 		0);
+		addRoad(0, 30,  	0, 		0f * turnMod, 		testHillHeight / 2);
+		addRoad(0, 40,  	0, 		0f * turnMod, 		0);
+		// @formatter:on
+
+		digOutSegments(20, 5, 3);
+		digOutSegments(40, 10, 0);
+		digOutSegments(70, 10, 1);
+		digOutSegments(80, 10, 2);
+
+		digOutSegments(111, 4, 0);
+		digOutSegments(111, 4, 1);
+		digOutSegments(111, 4, 2);
+		digOutSegments(111, 4, 3);
+
+		digOutSegments(113, 4, 1);
+		digOutSegments(113, 4, 2);
+
+		digOutSegments(139, 4, 3);
+
+		addProp(PropDefinition.WALL, 100, 0);
+		addProp(PropDefinition.WALL, 100, 1);
+
+		addProp(PropDefinition.COIN, 30, 2);
+		addProp(PropDefinition.COIN, 22, 2);
+		addProp(PropDefinition.COIN, 34, 2);
+		addProp(PropDefinition.COIN, 36, 2);
+		addProp(PropDefinition.COIN, 38, 2);
+		addProp(PropDefinition.COIN, 40, 2);
+
+		addProp(PropDefinition.COIN, 50, 2);
+		addProp(PropDefinition.COIN, 52, 2);
+		addProp(PropDefinition.COIN, 54, 2);
+		addProp(PropDefinition.COIN, 56, 2);
+		addProp(PropDefinition.COIN, 58, 2);
+		addProp(PropDefinition.COIN, 50, 2);
+
+		addEntity(EntityDefinition.NORMAL, 120, 2);
+		addEntity(EntityDefinition.NORMAL, 130, 3);
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 145, 0);
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 145, 1);
+
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 157, 2);
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 157, 3);
+
+		digOutSegments(159, 10, 1);
+		digOutSegments(164, 3, 0);
+
+		addEntity(EntityDefinition.NORMAL, 185, 1);
+		addEntity(EntityDefinition.NORMAL, 185, 2);
+
+		addProp(PropDefinition.COIN, 200, 2);
+		addProp(PropDefinition.COIN, 198, 3);
+
+		addProp(PropDefinition.WALL, 195, 0);
+		addProp(PropDefinition.WALL, 195, 1);
+
+		digOutSegments(222, 3, 0);
+		digOutSegments(222, 3, 1);
+
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 222, 2);
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 222, 3);
+
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 235, 2);
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 235, 3);
+
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 282, 0);
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 282, 3);
+
+		addEntity(EntityDefinition.NORMAL, 289, 1);
+		addEntity(EntityDefinition.NORMAL, 289, 2);
+
+		digOutSegments(232, 2, 0);
+		digOutSegments(232, 2, 1);
+		digOutSegments(232, 2, 2);
+		digOutSegments(232, 2, 3);
+
+		digOutSegments(238, 2, 0);
+		digOutSegments(238, 2, 1);
+		digOutSegments(238, 2, 2);
+		digOutSegments(238, 2, 3);
+
+		digOutSegments(244, 2, 0);
+		digOutSegments(244, 2, 1);
+		digOutSegments(244, 2, 2);
+		digOutSegments(244, 2, 3);
+
+		digOutSegments(252, 2, 0);
+		digOutSegments(250, 2, 1);
+		digOutSegments(250, 2, 2);
+		digOutSegments(252, 2, 3);
+
+		digOutSegments(260, 4, 0);
+		digOutSegments(260, 2, 1);
+		digOutSegments(260, 2, 2);
+		digOutSegments(260, 4, 3);
+
+		digOutSegments(266, 2, 1);
+		digOutSegments(266, 2, 2);
+
+		addProp(PropDefinition.COIN, 155, 0);
+		addProp(PropDefinition.COIN, 156, 0);
+		addProp(PropDefinition.COIN, 157, 0);
+		addProp(PropDefinition.COIN, 158, 0);
+		addProp(PropDefinition.COIN, 159, 0);
+		addProp(PropDefinition.COIN, 160, 0);
+
+		addEntity(EntityDefinition.NORMAL, 150, 3);
+
+		mLevelMinCoins = 15;
+
+	}
+
+	private void setupWorld_1() { // hard
+		mMinLevelSpeed = 50;
+		mBaseLevelSpeed = 75;
+		mMaxSpeed = 200;
+
+		// @formatter:off
+		final var testHillHeight = 50;
+		final var turnMod = 6.f;
+		
+		addRoad(0, 	25, 	0, 		0 * turnMod, 		0);
+		addRoad(0, 	25, 	0, 		.5f * turnMod, 		testHillHeight);
+		addRoad(0, 	25, 	0, 		-.4f * turnMod, 	-testHillHeight);
+		addRoad(0, 	25, 	0, 		-.4f * turnMod, 	testHillHeight*2);
+		addRoad(0, 	30, 	0, 		-.6f * turnMod, 	-testHillHeight);
+		
+		addRoad(0, 	20, 	0, 		.3f * turnMod, 		-testHillHeight);
+		addRoad(0, 	20, 	0,		-.6f * turnMod, 	testHillHeight);
+		addRoad(0, 	20,   	0, 		1.f * turnMod, 		testHillHeight / 4);
+		addRoad(0, 	20,   	0, 		0.5f * turnMod, 	-testHillHeight / 4);
+		addRoad(0,  30,  	0, 		-.6f * turnMod, 	testHillHeight);
+		
+		addRoad(0, 	30,  	0, 		0f * turnMod, 		0);
+		addRoad(0, 	30,  	0, 		0f * turnMod, 		testHillHeight / 2);
+		addRoad(0, 	40,  	0, 		-.40f * turnMod, 	testHillHeight / 2);
+		addRoad(0, 	40,  	0, 		.10f * turnMod, 	-testHillHeight / 2);
+		// @formatter:on
+
+		digOutSegments(20, 5, 3);
+		digOutSegments(25, 4, 0);
+		digOutSegments(45, 10, 0);
+		digOutSegments(70, 10, 1);
+		digOutSegments(80, 10, 2);
+		digOutSegments(94, 3, 3);
+
+		// TEST
+		addEntity(EntityDefinition.NORMAL, 30, 2);
+		addEntity(EntityDefinition.NORMAL, 10, 3);
+
+		addProp(PropDefinition.WALL, 100, 0);
+		addProp(PropDefinition.WALL, 100, 1);
+
+		addProp(PropDefinition.COIN, 30, 2);
+		addProp(PropDefinition.COIN, 22, 1);
+		addProp(PropDefinition.COIN, 34, 2);
+		addProp(PropDefinition.COIN, 36, 1);
+		addProp(PropDefinition.COIN, 38, 2);
+		addProp(PropDefinition.COIN, 40, 1);
+
+		addProp(PropDefinition.COIN, 50, 2);
+		addProp(PropDefinition.COIN, 52, 1);
+		addProp(PropDefinition.COIN, 54, 2);
+		addProp(PropDefinition.COIN, 56, 1);
+		addProp(PropDefinition.COIN, 58, 2);
+		addProp(PropDefinition.COIN, 50, 1);
+
+		addProp(PropDefinition.COIN, 85, 3);
+		addProp(PropDefinition.COIN, 87, 3);
+		addProp(PropDefinition.COIN, 89, 3);
+		addProp(PropDefinition.COIN, 91, 3);
+
+		addEntity(EntityDefinition.NORMAL, 88, 0);
+		addEntity(EntityDefinition.NORMAL, 130, 3);
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 145, 0);
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 145, 1);
+
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 157, 2);
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 157, 3);
+
+		digOutSegments(113, 4, 1);
+		digOutSegments(113, 4, 2);
+
+		addProp(PropDefinition.WALL, 118, 1);
+		addProp(PropDefinition.WALL, 118, 2);
+
+		digOutSegments(139, 4, 3);
+
+		digOutSegments(159, 10, 1);
+		digOutSegments(164, 3, 0);
+
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 145, 0);
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 145, 1);
+
+		addEntity(EntityDefinition.NORMAL, 185, 1);
+		addEntity(EntityDefinition.NORMAL, 185, 2);
+
+		addProp(PropDefinition.COIN, 200, 2);
+		addProp(PropDefinition.COIN, 198, 3);
+
+		addProp(PropDefinition.WALL, 195, 0);
+		addProp(PropDefinition.WALL, 195, 1);
+
+		digOutSegments(222, 3, 0);
+		digOutSegments(222, 3, 1);
+
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 222, 2);
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 222, 3);
+
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 235, 2);
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 235, 3);
+
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 282, 0);
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 282, 3);
+
+		addEntity(EntityDefinition.NORMAL, 289, 1);
+		addEntity(EntityDefinition.NORMAL, 289, 2);
+
+		digOutSegments(232, 2, 0);
+		digOutSegments(232, 2, 1);
+		digOutSegments(232, 2, 2);
+		digOutSegments(232, 2, 3);
+
+		digOutSegments(238, 2, 0);
+		digOutSegments(238, 2, 1);
+		digOutSegments(238, 2, 2);
+		digOutSegments(238, 2, 3);
+
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 282, 0);
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 282, 3);
+
+		addEntity(EntityDefinition.NORMAL, 200, 0);
+		addEntity(EntityDefinition.NORMAL, 208, 0);
+
+		digOutSegments(244, 2, 0);
+		digOutSegments(244, 2, 1);
+		digOutSegments(244, 2, 2);
+		digOutSegments(244, 2, 3);
+
+		digOutSegments(252, 2, 0);
+		digOutSegments(250, 2, 1);
+		digOutSegments(250, 2, 2);
+		digOutSegments(252, 2, 3);
+
+		digOutSegments(260, 4, 0);
+		digOutSegments(260, 2, 1);
+		digOutSegments(260, 2, 2);
+		digOutSegments(260, 4, 3);
+
+//		digOutSegments(260, 4, 0);
+		digOutSegments(266, 2, 1);
+		digOutSegments(266, 2, 2);
+//		digOutSegments(260, 4, 3);
+
+		addProp(PropDefinition.COIN, 155, 0);
+		addProp(PropDefinition.COIN, 156, 0);
+		addProp(PropDefinition.COIN, 157, 0);
+		addProp(PropDefinition.COIN, 158, 0);
+		addProp(PropDefinition.COIN, 159, 0);
+		addProp(PropDefinition.COIN, 160, 0);
+
+		addProp(PropDefinition.COIN, 305, 1);
+		addProp(PropDefinition.COIN, 306, 1);
+		addProp(PropDefinition.COIN, 307, 3);
+		addProp(PropDefinition.COIN, 308, 2);
+		addProp(PropDefinition.COIN, 309, 2);
+
+		digOutSegments(318, 3, 1);
+		digOutSegments(318, 3, 2);
+
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 330, 2);
+
+		digOutSegments(335, 3, 0);
+		digOutSegments(337, 3, 1);
+		addProp(PropDefinition.WALL, 340, 1);
+
+		addEntity(EntityDefinition.NORMAL, 345, 2);
+		addEntity(EntityDefinition.NORMAL, 345, 3);
+
+		digOutSegments(346, 3, 2);
+		digOutSegments(346, 3, 3);
+
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 356, 0);
+		addEntity(EntityDefinition.BLOCKER_SHOOTER, 356, 1);
+
+		addEntity(EntityDefinition.NORMAL, 150, 3);
+
+		addProp(PropDefinition.COIN, 317, 3);
+		addProp(PropDefinition.COIN, 319, 3);
+		addProp(PropDefinition.COIN, 321, 3);
 
+		mLevelMinCoins = 30;
 	}
 }
@@ -0,0 +1,248 @@
+package net.lintfordlib.ld58.data;
+
+import java.util.Arrays;
+import java.util.function.IntFunction;
+
+import net.lintfordlib.ld58.data.GameWorld.TrackProjectile;
+
+// Fixed-capacity, structure-of-arrays store of the projectiles in flight. Their state is packed into the front
+// [0, activeCount()) of the per-projectile arrays, so integrate() runs flat loops over them; freeing a projectile moves
+// the last one into its place. Each slot also has a TrackProjectile, the view the segment lists and the renderer use,
+// that finds its data through indexOf(slot).
+// Free slots are kept on a stack, so allocate() and free() never depend on the capacity. A handle packs the slot with
+// the generation it was allocated in; the generation moves on when the slot is freed, so a handle kept past the end of
+// its projectile no longer resolves. When the pool is full allocate() fails and counts the overflow.
+public class ProjectilePool {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int INVALID_HANDLE = 0;
+
+	private static final int SLOT_BITS = 16;
+	private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+	private static final int GENERATION_MASK = (1 << (31 - SLOT_BITS)) - 1;
+
+	public static final int MAX_CAPACITY = 1 << SLOT_BITS;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	// per projectile in flight, packed
+	public final float[] x; // lane offset, in road widths
+	public final float[] y;
+	public final float[] z;
+	public final float[] lifetime; // ms
+	public final float[] velocity; // z per tick, definition speed * direction
+	public final byte[] direction; // 1 forwards, -1 backwards
+	public final byte[] definition; // ProjectileDefinition.index
+
+	private final int[] mSlots; // packed index -> slot
+	private int mActiveCount;
+
+	// per slot
+	private final TrackProjectile[] mProjectiles;
+	private final int[] mIndices; // slot -> packed index, -1 while free
+	private final int[] mGenerations;
+
+	private final int[] mFreeSlots; // stack
+	private int mFreeCount;
+
+	private final int[] mExpiredSlots;
+	private int mExpiredCount;
+
+	private int mHighWaterMark;
+	private int mOverflowCount;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int capacity() {
+		return mProjectiles.length;
+	}
+
+	public int activeCount() {
+		return mActiveCount;
+	}
+
+	// the projectile at packed index i, i in [0, activeCount())
+	public TrackProjectile active(int i) {
+		return mProjectiles[mSlots[i]];
+	}
+
+	public int slot(int i) {
+		return mSlots[i];
+	}
+
+	// packed index of the slot's data, -1 if the slot is free
+	public int indexOf(int slot) {
+		return mIndices[slot];
+	}
+
+	public TrackProjectile projectile(int slot) {
+		return mProjectiles[slot];
+	}
+
+	// slots of the projectiles the last integrate() found expired, [0, expiredCount())
+	public int[] expiredSlots() {
+		return mExpiredSlots;
+	}
+
+	public int expiredCount() {
+		return mExpiredCount;
+	}
+
+	// most projectiles in flight at once since the pool was created
+	public int highWaterMark() {
+		return mHighWaterMark;
+	}
+
+	// allocations that failed because the pool was full
+	public int overflowCount() {
+		return mOverflowCount;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public ProjectilePool(int capacity, IntFunction<TrackProjectile> factory) {
+		if (capacity < 1 || capacity > MAX_CAPACITY)
+			throw new IllegalArgumentException("ProjectilePool capacity must be between 1 and " + MAX_CAPACITY);
+
+		x = new float[capacity];
+		y = new float[capacity];
+		z = new float[capacity];
+		lifetime = new float[capacity];
+		velocity = new float[capacity];
+		direction = new byte[capacity];
+		definition = new byte[capacity];
+		mSlots = new int[capacity];
+
+		mProjectiles = new TrackProjectile[capacity];
+		mIndices = new int[capacity];
+		mGenerations = new int[capacity];
+		mFreeSlots = new int[capacity];
+		mExpiredSlots = new int[capacity];
+
+		Arrays.fill(mIndices, -1);
+		Arrays.fill(mGenerations, 1); // generation 0 would make slot 0 produce INVALID_HANDLE
+
+		for (int i = 0; i < capacity; i++) {
+			mProjectiles[i] = factory.apply(i);
+
+			// lowest slots are handed out first
+			mFreeSlots[capacity - 1 - i] = i;
+		}
+
+		mFreeCount = capacity;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	// returns the packed index of the new projectile, or -1 (and counts an overflow) if every slot is in use
+	public int allocate() {
+		if (mFreeCount == 0) {
+			mOverflowCount++;
+			return -1;
+		}
+
+		final var slot = mFreeSlots[--mFreeCount];
+		final var index = mActiveCount++;
+
+		mSlots[index] = slot;
+		mIndices[slot] = index;
+
+		if (mActiveCount > mHighWaterMark)
+			mHighWaterMark = mActiveCount;
+
+		return index;
+	}
+
+	// returns the slot to the pool. Returns false if it was already free.
+	public boolean free(int slot) {
+		final var index = mIndices[slot];
+		if (index < 0)
+			return false;
+
+		// the last projectile in flight takes the freed place
+		final var last = --mActiveCount;
+		if (index != last) {
+			x[index] = x[last];
+			y[index] = y[last];
+			z[index] = z[last];
+			lifetime[index] = lifetime[last];
+			velocity[index] = velocity[last];
+			direction[index] = direction[last];
+			definition[index] = definition[last];
+
+			final var lastSlot = mSlots[last];
+			mSlots[index] = lastSlot;
+			mIndices[lastSlot] = index;
+		}
+
+		mIndices[slot] = -1;
+
+		mGenerations[slot] = (mGenerations[slot] + 1) & GENERATION_MASK;
+		if (mGenerations[slot] == 0)
+			mGenerations[slot] = 1;
+
+		mFreeSlots[mFreeCount++] = slot;
+		return true;
+	}
+
+	public void freeAll() {
+		while (mActiveCount > 0)
+			free(mSlots[mActiveCount - 1]);
+	}
+
+	// Advances every projectile in flight by one tick and collects the slots of the ones whose lifetime ran out into
+	// expiredSlots(), returning how many. The first loop runs over packed arrays without branches, so the JIT can
+	// vectorize it; the second compacts the expired slots. Expired projectiles stay in flight until they are freed.
+	public int integrate(float dt) {
+		final var count = mActiveCount;
+		final var z = this.z;
+		final var lifetime = this.lifetime;
+		final var velocity = this.velocity;
+
+		for (int i = 0; i < count; i++) {
+			z[i] += velocity[i];
+			lifetime[i] -= dt;
+		}
+
+		var expiredCount = 0;
+		for (int i = 0; i < count; i++) {
+			if (lifetime[i] <= 0)
+				mExpiredSlots[expiredCount++] = mSlots[i];
+		}
+
+		mExpiredCount = expiredCount;
+		return expiredCount;
+	}
+
+	// the handle of a projectile in flight, INVALID_HANDLE if the slot is free
+	public int handle(int slot) {
+		if (mIndices[slot] < 0)
+			return INVALID_HANDLE;
+
+		return (mGenerations[slot] << SLOT_BITS) | slot;
+	}
+
+	// the slot a handle refers to, or -1 if the projectile has been freed since
+	public int resolve(int handle) {
+		return isValid(handle) ? handle & SLOT_MASK : -1;
+	}
+
+	public boolean isValid(int handle) {
+		final var slot = handle & SLOT_MASK;
+		if (handle == INVALID_HANDLE || slot >= mProjectiles.length)
+			return false;
+
+		return mIndices[slot] >= 0 && mGenerations[slot] == (handle >>> SLOT_BITS);
+	}
+}
@@ -0,0 +1,81 @@
+package net.lintfordlib.ld58.data;
+
+// The track segment a z position is in, for positions that only move a little every tick (camera, player, entities
+// and projectiles). The cursor walks on from the segment it was in last, so following a position costs a compare or
+// two instead of the divide, floor and modulo of GameWorld.findSegment(z).
+public class SegmentCursor {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	// positions further away than this are resolved directly instead of walked to
+	private static final int MAX_WALK_SEGMENTS = 4;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private int mIndex;
+	private int mNumSegments; // of the track the cursor was resolved on, 0 until then
+
+	// z range [mStartZ, mEndZ) of the segment, not wrapped around the track
+	private float mStartZ;
+	private float mEndZ;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int index() {
+		return mIndex;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	// moves the cursor to the segment z is in. Returns true if that is a different segment.
+	public boolean moveTo(float z, int numSegments) {
+		// like findSegment, everything before the start of the track is in the first segment
+		if (z < 0)
+			z = 0;
+
+		if (z >= mStartZ && z < mEndZ && numSegments == mNumSegments)
+			return false;
+
+		final var previousIndex = numSegments == mNumSegments ? mIndex : -1;
+
+		final var walkLength = MAX_WALK_SEGMENTS * GameWorld.SEGMENT_LENGTH;
+		if (numSegments != mNumSegments || z < mStartZ - walkLength || z >= mEndZ + walkLength)
+			resolve(z, numSegments);
+
+		// also settles z / SEGMENT_LENGTH rounding up or down across a segment edge in resolve
+		while (z >= mEndZ) {
+			mStartZ = mEndZ;
+			mEndZ += GameWorld.SEGMENT_LENGTH;
+
+			if (++mIndex == numSegments)
+				mIndex = 0;
+		}
+
+		while (z < mStartZ) {
+			mEndZ = mStartZ;
+			mStartZ -= GameWorld.SEGMENT_LENGTH;
+
+			if (--mIndex < 0)
+				mIndex = numSegments - 1;
+		}
+
+		return mIndex != previousIndex;
+	}
+
+	private void resolve(float z, int numSegments) {
+		final var segment = (int) Math.floor(z / GameWorld.SEGMENT_LENGTH);
+
+		mNumSegments = numSegments;
+		mIndex = segment % numSegments;
+		mStartZ = (float) segment * GameWorld.SEGMENT_LENGTH;
+		mEndZ = mStartZ + GameWorld.SEGMENT_LENGTH;
+	}
+}
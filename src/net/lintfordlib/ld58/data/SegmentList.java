@@ -0,0 +1,114 @@
+package net.lintfordlib.ld58.data;
+
+// Intrusive doubly-linked list of the objects in a track segment. The links live in the objects (see Node), so moving an
+// object to the list of another segment is O(1) and never allocates. The objects keep the order they were added in.
+// Iterate with first()/next() or last()/prev(); take the neighbour before handling an object that may be removed.
+public class SegmentList<T extends SegmentList.Node<T>> {
+
+	// --------------------------------------
+	// Inner-Classes
+	// --------------------------------------
+
+	public static class Node<T extends Node<T>> {
+
+		T prev;
+		T next;
+		SegmentList<T> list;
+
+		public T prev() {
+			return prev;
+		}
+
+		public T next() {
+			return next;
+		}
+
+		public boolean isLinked() {
+			return list != null;
+		}
+
+		// takes the object out of the list it is in, if any
+		@SuppressWarnings("unchecked")
+		public void unlink() {
+			if (list != null)
+				list.remove((T) this);
+		}
+	}
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private T mFirst;
+	private T mLast;
+	private int mSize;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public T first() {
+		return mFirst;
+	}
+
+	public T last() {
+		return mLast;
+	}
+
+	public int size() {
+		return mSize;
+	}
+
+	public boolean isEmpty() {
+		return mSize == 0;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	// appends the object, taking it out of the list it was in before
+	public void add(T object) {
+		if (object.list != null)
+			object.list.remove(object);
+
+		object.list = this;
+		object.prev = mLast;
+		object.next = null;
+
+		if (mLast != null)
+			mLast.next = object;
+		else
+			mFirst = object;
+
+		mLast = object;
+		mSize++;
+	}
+
+	public boolean contains(T object) {
+		return object.list == this;
+	}
+
+	// returns false if the object is not in this list
+	public boolean remove(T object) {
+		if (object.list != this)
+			return false;
+
+		if (object.prev != null)
+			object.prev.next = object.next;
+		else
+			mFirst = object.next;
+
+		if (object.next != null)
+			object.next.prev = object.prev;
+		else
+			mLast = object.prev;
+
+		object.list = null;
+		object.prev = null;
+		object.next = null;
+		mSize--;
+
+		return true;
+	}
+}
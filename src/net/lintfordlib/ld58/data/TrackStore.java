@@ -0,0 +1,213 @@
+package net.lintfordlib.ld58.data;
+
+import java.util.Arrays;
+
+// Structure-of-arrays storage for the track. Every segment has two points (closest and furthest), stored at point
+// index (segmentIndex * 2) and (segmentIndex * 2 + 1). Lane fill is stored as one bit per lane.
+public class TrackStore {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int MAX_LANES = 8;
+
+	private static final int INITIAL_CAPACITY = 256;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	// per point
+	public float[] worldX;
+	public float[] worldY;
+	public float[] worldZ;
+
+	public float[] cameraX;
+	public float[] cameraY;
+	public float[] cameraZ;
+
+	public float[] screenX;
+	public float[] screenY;
+	public float[] screenZ;
+
+	public float[] screenScale;
+	public float[] curvature;
+
+	// per segment
+	public float[] curve;
+	public byte[] laneFill;
+
+	// prefix sums of curve over the track laid out twice, so a run that wraps around the loop is still one subtraction:
+	// curveSum[m] = curve[0] + .. + curve[m - 1] and curveSum2[m] = curveSum[0] + .. + curveSum[m - 1]
+	private double[] mCurveSum;
+	private double[] mCurveSum2;
+	private int mCurveTableSegments = -1;
+
+	private int mNumSegments;
+	private final int mNumLanes;
+	private final byte mAllLanesMask;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int size() {
+		return mNumSegments;
+	}
+
+	public int numLanes() {
+		return mNumLanes;
+	}
+
+	public float lastHeight() {
+		if (mNumSegments == 0)
+			return 0;
+
+		return worldY[mNumSegments * 2 - 1];
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public TrackStore(int numLanes) {
+		if (numLanes > MAX_LANES)
+			throw new IllegalArgumentException("TrackStore supports at most " + MAX_LANES + " lanes");
+
+		mNumLanes = numLanes;
+		mAllLanesMask = (byte) ((1 << numLanes) - 1);
+
+		allocate(INITIAL_CAPACITY);
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public void clear() {
+		mNumSegments = 0;
+		mCurveTableSegments = -1;
+	}
+
+	// returns the index of the new segment
+	public int addSegment(float segmentCurve, float startY, float endY, float startZ, float endZ) {
+		if (mNumSegments == curve.length)
+			allocate(curve.length * 2);
+
+		final var index = mNumSegments++;
+		final var p0 = index * 2;
+		final var p1 = p0 + 1;
+
+		curve[index] = segmentCurve;
+		laneFill[index] = mAllLanesMask; // default all filled
+
+		worldX[p0] = 0.f;
+		worldY[p0] = startY;
+		worldZ[p0] = startZ;
+
+		worldX[p1] = 0.f;
+		worldY[p1] = endY;
+		worldZ[p1] = endZ;
+
+		screenScale[p0] = 1;
+		screenScale[p1] = 1;
+		curvature[p0] = 0;
+		curvature[p1] = 0;
+
+		return index;
+	}
+
+	public boolean isLaneFilled(int segmentIndex, int lane) {
+		return (laneFill[segmentIndex] & (1 << lane)) != 0;
+	}
+
+	public void setLaneFilled(int segmentIndex, int lane, boolean filled) {
+		if (filled)
+			laneFill[segmentIndex] |= (byte) (1 << lane);
+		else
+			laneFill[segmentIndex] &= (byte) ~(1 << lane);
+	}
+
+	// Builds the curvature prefix sums. Has to be called once the track is complete, before curvatureRun.
+	public void buildCurvatureTables() {
+		final var n = mNumSegments;
+		final var length = 2 * n + 1;
+
+		if (mCurveSum == null || mCurveSum.length < length) {
+			mCurveSum = new double[length];
+			mCurveSum2 = new double[length];
+		}
+
+		mCurveSum[0] = 0;
+		mCurveSum2[0] = 0;
+
+		for (int m = 0; m < 2 * n; m++) {
+			mCurveSum[m + 1] = mCurveSum[m] + curve[m < n ? m : m - n];
+			mCurveSum2[m + 1] = mCurveSum2[m] + mCurveSum[m];
+		}
+
+		mCurveTableSegments = n;
+	}
+
+	// Writes the curvature offsets of the count segments from baseSegment on, with the camera basePercent into
+	// baseSegment. Segment i starts at x(i) = (curveSum2[b + i] - curveSum2[b]) - i * curveSum[b] - i * curve[b] * basePercent
+	// and ends at x(i) + dx(i), dx(i) = curveSum[b + i] - curveSum[b] - curve[b] * basePercent. No iteration depends on
+	// another, so the run can be split freely.
+	public void curvatureRun(int baseSegment, float basePercent, int count) {
+		if (mCurveTableSegments != mNumSegments)
+			throw new IllegalStateException("TrackStore curvature tables are out of date, call buildCurvatureTables() after building the track");
+
+		final var n = mNumSegments;
+		final var baseSum = mCurveSum[baseSegment];
+		final var baseSum2 = mCurveSum2[baseSegment];
+		final var baseDx = (double) -(curve[baseSegment] * basePercent);
+
+		for (int i = 0; i < count; i++) {
+			final var a = baseSegment + i;
+			final var x = mCurveSum2[a] - baseSum2 - i * baseSum + i * baseDx;
+			final var dx = mCurveSum[a] - baseSum + baseDx;
+
+			final var point = (a < n ? a : a - n) * 2;
+			curvature[point] = (float) x;
+			curvature[point + 1] = (float) (x + dx);
+		}
+	}
+
+	private void allocate(int segmentCapacity) {
+		final var pointCapacity = segmentCapacity * 2;
+
+		if (curve == null) {
+			worldX = new float[pointCapacity];
+			worldY = new float[pointCapacity];
+			worldZ = new float[pointCapacity];
+			cameraX = new float[pointCapacity];
+			cameraY = new float[pointCapacity];
+			cameraZ = new float[pointCapacity];
+			screenX = new float[pointCapacity];
+			screenY = new float[pointCapacity];
+			screenZ = new float[pointCapacity];
+			screenScale = new float[pointCapacity];
+			curvature = new float[pointCapacity];
+
+			curve = new float[segmentCapacity];
+			laneFill = new byte[segmentCapacity];
+			return;
+		}
+
+		worldX = Arrays.copyOf(worldX, pointCapacity);
+		worldY = Arrays.copyOf(worldY, pointCapacity);
+		worldZ = Arrays.copyOf(worldZ, pointCapacity);
+		cameraX = Arrays.copyOf(cameraX, pointCapacity);
+		cameraY = Arrays.copyOf(cameraY, pointCapacity);
+		cameraZ = Arrays.copyOf(cameraZ, pointCapacity);
+		screenX = Arrays.copyOf(screenX, pointCapacity);
+		screenY = Arrays.copyOf(screenY, pointCapacity);
+		screenZ = Arrays.copyOf(screenZ, pointCapacity);
+		screenScale = Arrays.copyOf(screenScale, pointCapacity);
+		curvature = Arrays.copyOf(curvature, pointCapacity);
+
+		curve = Arrays.copyOf(curve, segmentCapacity);
+		laneFill = Arrays.copyOf(laneFill, segmentCapacity);
+	}
+}
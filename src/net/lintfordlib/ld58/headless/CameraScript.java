@@ -0,0 +1,91 @@
+package net.lintfordlib.ld58.headless;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+// The camera positions a headless run renders, one shot per frame. A script file has one shot per line:
+//
+// position lane skyPhase [resolutionLevel]
+//
+// position is the camera z along the track, lane the player lane (0..3), skyPhase the day phase [0,1) and the optional
+// resolution level an index into DynamicResolution.SCALES. Empty lines and lines starting with '#' are skipped.
+public class CameraScript {
+
+	// --------------------------------------
+	// Inner-Classes
+	// --------------------------------------
+
+	public static class Shot {
+
+		public final float position;
+		public final int lane;
+		public final float skyPhase;
+		public final int level;
+
+		public Shot(float position, int lane, float skyPhase, int level) {
+			this.position = position;
+			this.lane = lane;
+			this.skyPhase = skyPhase;
+			this.level = level;
+		}
+	}
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final List<Shot> mShots = new ArrayList<>();
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public List<Shot> shots() {
+		return mShots;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public CameraScript add(float position, int lane, float skyPhase, int level) {
+		mShots.add(new Shot(position, lane, skyPhase, level));
+		return this;
+	}
+
+	// a fly-through at a constant speed
+	public static CameraScript linear(float startPosition, float step, int numFrames, int lane, float skyPhase, int level) {
+		final var script = new CameraScript();
+		for (int i = 0; i < numFrames; i++)
+			script.add(startPosition + i * step, lane, skyPhase, level);
+
+		return script;
+	}
+
+	public static CameraScript load(Path path) throws IOException {
+		final var script = new CameraScript();
+		final var lines = Files.readAllLines(path);
+
+		for (int i = 0; i < lines.size(); i++) {
+			final var line = lines.get(i).trim();
+			if (line.isEmpty() || line.startsWith("#"))
+				continue;
+
+			final var tokens = line.split("\\s+");
+			if (tokens.length < 3 || tokens.length > 4)
+				throw new IOException(path + ":" + (i + 1) + ": expected 'position lane skyPhase [resolutionLevel]'");
+
+			try {
+				final var level = tokens.length == 4 ? Integer.parseInt(tokens[3]) : 0;
+				script.add(Float.parseFloat(tokens[0]), Integer.parseInt(tokens[1]), Float.parseFloat(tokens[2]), level);
+			} catch (NumberFormatException e) {
+				throw new IOException(path + ":" + (i + 1) + ": " + e.getMessage());
+			}
+		}
+
+		return script;
+	}
+}
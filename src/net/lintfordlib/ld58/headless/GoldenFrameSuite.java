@@ -0,0 +1,322 @@
+package net.lintfordlib.ld58.headless;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Locale;
+
+import javax.imageio.ImageIO;
+
+import net.lintfordlib.ld58.ConstantsGame;
+import net.lintfordlib.ld58.data.GameWorld;
+import net.lintfordlib.ld58.headless.CameraScript.Shot;
+
+// Regression suite for the software renderer. Renders fixed shots of every built-in level headless and compares them
+// pixel by pixel against the reference frames under golden/. For every shot it reports the number of
+// differing pixels and the median render time, and writes the actual frame plus a diff image (differing pixels in red
+// over a dimmed copy of the reference) when they don't match. Exits with 1 on any mismatch, on a reference of another
+// size and on a missing reference.
+//
+// --record writes all references, after an intended change to the output or for a new shot.
+// References must come from a build against the real LintfordLib, since the sky and track colors go through its
+// ColorHelper and InterpolationHelper.
+//
+// One more shot, the start of level 0 at the logical resolution, is compared against golden/baseline/level0_start.png:
+// the FullScreenBuffer of the game before the software renderer (polygons and sprites drawn by LintfordLib), at
+// position 0, lane 0 and sky phase 0, written top-down like HeadlessRenderer.writePng. --record never writes it. The
+// intended changes since then are allowed for: the sky gradient is quantized (up to BASELINE_CHANNEL_TOLERANCE levels)
+// and small sprites are blitted from size buckets (SpriteScaleCache), which moves up to BASELINE_TOLERANCE_PIXELS
+// pixels of this frame by a texel.
+//
+// usage: GoldenFrameSuite [--res dir] [--golden dir] [--out dir] [--record] [--repeat n] [--tolerance pixels]
+public class GoldenFrameSuite {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int NUM_BUILT_IN_LEVELS = 3; // setupWorld_Tutorial, setupWorld_0, setupWorld_1
+
+	public static final String BASELINE_NAME = "baseline_level0";
+	public static final int BASELINE_CHANNEL_TOLERANCE = 4;
+	public static final int BASELINE_TOLERANCE_PIXELS = 256;
+
+	private static final int DIFF_COLOR = 0xffff0000;
+	private static final int WARMUP_PASSES = 3;
+
+	// --------------------------------------
+	// Inner-Classes
+	// --------------------------------------
+
+	public static class Result {
+
+		public final String name;
+		public final int numDiffPixels;
+		public final double renderMillis;
+		public final boolean recorded;
+		public final boolean missing;
+		public final boolean sizeMismatch;
+		public final boolean baseline;
+
+		Result(String name, int numDiffPixels, double renderMillis, boolean recorded, boolean missing, boolean sizeMismatch, boolean baseline) {
+			this.name = name;
+			this.numDiffPixels = numDiffPixels;
+			this.renderMillis = renderMillis;
+			this.recorded = recorded;
+			this.missing = missing;
+			this.sizeMismatch = sizeMismatch;
+			this.baseline = baseline;
+		}
+
+		// fails regardless of the tolerance when there is nothing to compare against
+		public boolean failed(int tolerance) {
+			final var allowed = baseline ? Math.max(tolerance, BASELINE_TOLERANCE_PIXELS) : tolerance;
+			return missing || sizeMismatch || numDiffPixels > allowed;
+		}
+	}
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final Path mResRoot;
+	private final Path mGoldenDir;
+	private final Path mOutDir;
+	private final boolean mRecord;
+	private final int mRepeat;
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public GoldenFrameSuite(Path resRoot, Path goldenDir, Path outDir, boolean record, int repeat) {
+		mResRoot = resRoot;
+		mGoldenDir = goldenDir;
+		mOutDir = outDir;
+		mRecord = record;
+		mRepeat = Math.max(repeat, 1);
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	// The shots cover the start straight, hills, curves, lane holes, props and entities, the three sky keyframes and
+	// every render resolution. Changing a shot invalidates its reference frame.
+	public static CameraScript shots(int levelNumber) {
+		final var script = new CameraScript();
+		final var segmentLength = GameWorld.SEGMENT_LENGTH;
+
+		// @formatter:off
+		switch (levelNumber) {
+		case 0:
+			script.add(  0 * segmentLength, 1, .00f, 0)
+				  .add( 30 * segmentLength, 2, .20f, 0)
+				  .add( 70 * segmentLength, 1, .40f, 1)
+				  .add( 95 * segmentLength, 3, .50f, 0)
+				  .add(140 * segmentLength, 0, .70f, 2)
+				  .add(215 * segmentLength, 2, .90f, 3);
+			break;
+		case 1:
+			script.add(  0 * segmentLength, 1, .00f, 0)
+				  .add( 35 * segmentLength, 2, .30f, 0)
+				  .add(105 * segmentLength, 0, .45f, 1)
+				  .add(140 * segmentLength, 3, .60f, 0)
+				  .add(215 * segmentLength, 2, .75f, 2)
+				  .add(255 * segmentLength, 1, .95f, 3);
+			break;
+		default:
+			script.add(  0 * segmentLength, 1, .00f, 0)
+				  .add( 60 * segmentLength, 2, .25f, 0)
+				  .add(110 * segmentLength, 1, .50f, 1)
+				  .add(150 * segmentLength, 0, .65f, 0)
+				  .add(225 * segmentLength, 3, .80f, 2)
+				  .add(315 * segmentLength, 2, .99f, 3);
+			break;
+		}
+		// @formatter:on
+
+		return script;
+	}
+
+	public Result[] run() throws IOException {
+		final var atlas = HeadlessAssets.loadGameAtlas(mResRoot);
+		final var results = new Result[NUM_BUILT_IN_LEVELS * shots(0).shots().size() + 1];
+		var numResults = 0;
+
+		Files.createDirectories(mOutDir);
+
+		final var renderers = new HeadlessRenderer[NUM_BUILT_IN_LEVELS];
+		for (int level = 0; level < NUM_BUILT_IN_LEVELS; level++)
+			renderers[level] = new HeadlessRenderer(atlas, level, ConstantsGame.PARALLEL_RASTERIZATION, ConstantsGame.SCANLINE_TRACK_RENDERING);
+
+		// let the JIT settle before anything is timed
+		for (int pass = 0; pass < WARMUP_PASSES; pass++) {
+			for (int level = 0; level < NUM_BUILT_IN_LEVELS; level++) {
+				for (final var shot : shots(level).shots())
+					renderers[level].render(shot);
+			}
+		}
+
+		final var times = new long[mRepeat];
+		for (int level = 0; level < NUM_BUILT_IN_LEVELS; level++) {
+			final var renderer = renderers[level];
+			final var shots = shots(level).shots();
+
+			for (int i = 0; i < shots.size(); i++) {
+				final var name = String.format(Locale.ROOT, "level%d_shot%02d", level, i);
+
+				// the first render warms the caches of this shot, the median of the repeats is reported
+				var packet = renderer.render(shots.get(i));
+				for (int r = 0; r < mRepeat; r++) {
+					packet = renderer.render(shots.get(i));
+					times[r] = packet.renderNanos;
+				}
+
+				Arrays.sort(times);
+				final var renderMillis = times[mRepeat / 2] / 1000000.0;
+
+				final var actual = HeadlessRenderer.toImage(packet);
+				final var referencePath = mGoldenDir.resolve(name + ".png");
+
+				if (mRecord) {
+					Files.createDirectories(mGoldenDir);
+					write(actual, referencePath);
+					results[numResults++] = new Result(name, 0, renderMillis, true, false, false, false);
+					continue;
+				}
+
+				results[numResults++] = check(name, actual, referencePath, renderMillis, 0, false);
+			}
+		}
+
+		final var baseline = renderers[0].render(new Shot(0, 0, 0.f, 0));
+		final var baselinePath = mGoldenDir.resolve("baseline").resolve("level0_start.png");
+		results[numResults++] = check(BASELINE_NAME, HeadlessRenderer.toImage(baseline), baselinePath, baseline.renderNanos / 1000000.0, BASELINE_CHANNEL_TOLERANCE, true);
+
+		return Arrays.copyOf(results, numResults);
+	}
+
+	private Result check(String name, BufferedImage actual, Path referencePath, double renderMillis, int channelTolerance, boolean baseline) throws IOException {
+		final var actualPath = mOutDir.resolve(name + "_actual.png");
+		final var numPixels = actual.getWidth() * actual.getHeight();
+
+		if (!Files.exists(referencePath)) {
+			write(actual, actualPath);
+			return new Result(name, numPixels, renderMillis, false, true, false, baseline);
+		}
+
+		// an unreadable reference counts as one of another size
+		final var reference = ImageIO.read(referencePath.toFile());
+		if (reference == null || reference.getWidth() != actual.getWidth() || reference.getHeight() != actual.getHeight()) {
+			write(actual, actualPath);
+			return new Result(name, numPixels, renderMillis, false, false, true, baseline);
+		}
+
+		final var numDiffPixels = compare(reference, actual, channelTolerance, mOutDir.resolve(name + "_diff.png"));
+
+		if (numDiffPixels != 0)
+			write(actual, actualPath);
+
+		return new Result(name, numDiffPixels, renderMillis, false, false, false, baseline);
+	}
+
+	// returns the number of pixels of two frames of the same size that differ by more than channelTolerance in any
+	// channel, and writes the diff image if any
+	private static int compare(BufferedImage reference, BufferedImage actual, int channelTolerance, Path diffPath) throws IOException {
+		final var width = actual.getWidth();
+		final var height = actual.getHeight();
+
+		final var expectedPixels = reference.getRGB(0, 0, width, height, null, 0, width);
+		final var actualPixels = actual.getRGB(0, 0, width, height, null, 0, width);
+		final var diffPixels = new int[width * height];
+
+		var numDiffPixels = 0;
+		for (int i = 0; i < diffPixels.length; i++) {
+			if (channelDelta(expectedPixels[i], actualPixels[i]) > channelTolerance) {
+				diffPixels[i] = DIFF_COLOR;
+				numDiffPixels++;
+				continue;
+			}
+
+			// dimmed grey copy of the reference, so the differences can be located
+			final var c = expectedPixels[i];
+			final var luma = (((c >> 16) & 0xff) * 77 + ((c >> 8) & 0xff) * 150 + (c & 0xff) * 29) >> 10;
+			diffPixels[i] = 0xff000000 | (luma << 16) | (luma << 8) | luma;
+		}
+
+		if (numDiffPixels > 0) {
+			final var diff = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+			diff.setRGB(0, 0, width, height, diffPixels, 0, width);
+			write(diff, diffPath);
+		}
+
+		return numDiffPixels;
+	}
+
+	private static int channelDelta(int a, int b) {
+		var delta = 0;
+		for (int shift = 0; shift < 32; shift += 8)
+			delta = Math.max(delta, Math.abs(((a >>> shift) & 0xff) - ((b >>> shift) & 0xff)));
+
+		return delta;
+	}
+
+	private static void write(BufferedImage image, Path path) throws IOException {
+		if (!ImageIO.write(image, "png", path.toFile()))
+			throw new IOException("No png writer available");
+	}
+
+	public static void main(String[] args) throws IOException {
+		var resRoot = Path.of(".");
+		var goldenDir = Path.of("golden");
+		var outDir = Path.of("golden-out");
+		var record = false;
+		var repeat = 5;
+		var tolerance = 0;
+
+		try {
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+				case "--res" -> resRoot = Path.of(args[++i]);
+				case "--golden" -> goldenDir = Path.of(args[++i]);
+				case "--out" -> outDir = Path.of(args[++i]);
+				case "--record" -> record = true;
+				case "--repeat" -> repeat = Integer.parseInt(args[++i]);
+				case "--tolerance" -> tolerance = Integer.parseInt(args[++i]);
+				default -> throw new IllegalArgumentException("Unknown argument " + args[i]);
+				}
+			}
+		} catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+			System.err.println(e.getMessage() != null ? e.getMessage() : "Missing argument value");
+			System.err.println("usage: GoldenFrameSuite [--res dir] [--golden dir] [--out dir] [--record] [--repeat n] [--tolerance pixels]");
+			System.exit(2);
+			return;
+		}
+
+		final var results = new GoldenFrameSuite(resRoot, goldenDir, outDir, record, repeat).run();
+
+		var numFailed = 0;
+		var totalMillis = 0.0;
+		for (final var result : results) {
+			final var failed = result.failed(tolerance);
+			final var status = result.recorded ? "RECORDED" : result.missing ? "MISSING" : result.sizeMismatch ? "SIZE" : failed ? "FAIL" : "ok";
+
+			System.out.println(String.format(Locale.ROOT, "%-16s %-8s %7d px differ %8.3f ms", result.name, status, result.numDiffPixels, result.renderMillis));
+
+			// the baseline shot is rendered once, so its time is no median
+			if (!result.baseline)
+				totalMillis += result.renderMillis;
+
+			if (failed)
+				numFailed++;
+		}
+
+		System.out.println(String.format(Locale.ROOT, "%d shots, %d failed, %.3f ms total median render time", results.length, numFailed, totalMillis));
+
+		if (numFailed > 0)
+			System.exit(1);
+	}
+}
@@ -0,0 +1,101 @@
+package net.lintfordlib.ld58.headless;
+
+import java.io.IOException;
+import java.lang.reflect.Modifier;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.imageio.ImageIO;
+
+import com.google.gson.JsonParser;
+
+import net.lintfordlib.ld58.data.GameTextureNames;
+import net.lintfordlib.ld58.rendering.SceneRecorder;
+import net.lintfordlib.ld58.rendering.SpriteAtlas;
+
+// Loads the game atlas straight from the png and the sprite sheet json (no GL texture, no ResourceManager). Frame names
+// in the json are matched against the GameTextureNames constants to find their uids.
+public class HeadlessAssets {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final String GAME_TEXTURE = "res/textures/textureGame.png";
+	public static final String GAME_SPRITESHEET = "res/spritesheets/spritesheetGame.json";
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	private HeadlessAssets() {
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static SpriteAtlas loadGameAtlas(Path resRoot) throws IOException {
+		return loadAtlas(resRoot.resolve(GAME_TEXTURE), resRoot.resolve(GAME_SPRITESHEET), SceneRecorder.SPRITE_FRAMES);
+	}
+
+	public static SpriteAtlas loadAtlas(Path texturePath, Path spriteSheetPath, int[] frameUids) throws IOException {
+		final var image = ImageIO.read(texturePath.toFile());
+		if (image == null)
+			throw new IOException("Unsupported image format: " + texturePath);
+
+		final var width = image.getWidth();
+		final var height = image.getHeight();
+		final var pixels = image.getRGB(0, 0, width, height, null, 0, width); // top-down ARGB, like Texture.ARGBColorData()
+
+		final var atlas = new SpriteAtlas(pixels, width);
+		final var uidsByName = frameUidsByName();
+
+		var maxUid = 0;
+		for (final var uid : frameUids)
+			maxUid = Math.max(maxUid, uid);
+
+		final var wanted = new boolean[maxUid + 1];
+		for (final var uid : frameUids)
+			wanted[uid] = true;
+
+		try (final var reader = Files.newBufferedReader(spriteSheetPath)) {
+			final var frames = JsonParser.parseReader(reader).getAsJsonObject().getAsJsonArray("spriteFrames");
+
+			for (final var element : frames) {
+				final var frame = element.getAsJsonObject();
+				final var uid = uidsByName.get(frame.get("name").getAsString());
+				if (uid == null || uid >= wanted.length || !wanted[uid])
+					continue;
+
+				atlas.addFrame(uid, frame.get("x").getAsInt(), frame.get("y").getAsInt(), frame.get("w").getAsInt(), frame.get("h").getAsInt());
+			}
+		}
+
+		for (final var uid : frameUids) {
+			if (atlas.spans(uid) == null)
+				throw new IOException("Sprite frame uid " + uid + " not found in " + spriteSheetPath);
+		}
+
+		return atlas;
+	}
+
+	private static Map<String, Integer> frameUidsByName() {
+		final var uids = new HashMap<String, Integer>();
+
+		for (final var field : GameTextureNames.class.getFields()) {
+			if (field.getType() != int.class || !Modifier.isStatic(field.getModifiers()))
+				continue;
+
+			try {
+				uids.put(field.getName(), field.getInt(null));
+			} catch (IllegalAccessException e) {
+				// public constants only
+			}
+		}
+
+		return uids;
+	}
+}
@@ -0,0 +1,209 @@
+package net.lintfordlib.ld58.headless;
+
+import java.awt.image.BufferedImage;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Locale;
+
+import javax.imageio.ImageIO;
+
+import net.lintfordlib.ld58.ConstantsGame;
+import net.lintfordlib.ld58.data.GameWorld;
+import net.lintfordlib.ld58.headless.CameraScript.Shot;
+import net.lintfordlib.ld58.rendering.DynamicResolution;
+import net.lintfordlib.ld58.rendering.FramePacket;
+import net.lintfordlib.ld58.rendering.SceneRecorder;
+import net.lintfordlib.ld58.rendering.SceneView;
+import net.lintfordlib.ld58.rendering.SoftwareFrameRenderer;
+import net.lintfordlib.ld58.rendering.SpriteAtlas;
+
+// Renders the sky, track and sprite passes of a level into a plain int[] without a window or GL context, using the same
+// GameWorld, SceneRecorder and SoftwareFrameRenderer as the GameScreen. The camera is driven by a CameraScript and
+// every frame can be written out as png or raw ARGB. Only the static level is rendered: nothing is simulated between
+// shots, so a shot always produces the same frame.
+//
+// usage: HeadlessRenderer [--res dir] [--level n] [--script file | --start z --step z --frames n --lane l --sky phase
+//        --resolution level] [--out dir] [--format png|raw|none] [--serial] [--quads]
+public class HeadlessRenderer {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	// the altitude the player rests at above the floor (see GameScreen.updatePlayerAltitude)
+	public static final float PLAYER_FLOOR_OFFSET = 5;
+
+	public static final String FORMAT_PNG = "png";
+	public static final String FORMAT_RAW = "raw";
+	public static final String FORMAT_NONE = "none";
+
+	private static final int MAX_CANVAS_WIDTH = DynamicResolution.scaledSize(ConstantsGame.GAME_CANVAS_WIDTH, DynamicResolution.SCALES.length - 1);
+	private static final int MAX_CANVAS_HEIGHT = DynamicResolution.scaledSize(ConstantsGame.GAME_CANVAS_HEIGHT, DynamicResolution.SCALES.length - 1);
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final GameWorld mWorld = new GameWorld(ConstantsGame.PROJECTILE_POOL_CAPACITY);
+	private final SceneView mView = new SceneView();
+	private final SceneRecorder mRecorder;
+	private final SoftwareFrameRenderer mRenderer;
+	private final SpriteAtlas mAtlas;
+	private final FramePacket mPacket = new FramePacket(MAX_CANVAS_WIDTH, MAX_CANVAS_HEIGHT);
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public GameWorld world() {
+		return mWorld;
+	}
+
+	public SceneView view() {
+		return mView;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public HeadlessRenderer(SpriteAtlas atlas, int levelNumber, boolean parallel, boolean scanlineTrack) {
+		mAtlas = atlas;
+		mRecorder = new SceneRecorder(ConstantsGame.GAME_CANVAS_WIDTH, ConstantsGame.GAME_CANVAS_HEIGHT, scanlineTrack);
+		mRecorder.fogSprites(ConstantsGame.FOG_SPRITES);
+		mRenderer = new SoftwareFrameRenderer(parallel, ConstantsGame.SPRITE_CACHE_BUDGET_BYTES);
+
+		mView.reset();
+		mWorld.buildLevel(levelNumber);
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	// renders one shot. The returned packet (and its bottom-up pixels) is reused by the next call.
+	public FramePacket render(Shot shot) {
+		if (shot.level < 0 || shot.level >= DynamicResolution.SCALES.length)
+			throw new IllegalArgumentException("Resolution level " + shot.level + " out of range");
+
+		final var view = mView;
+		view.level = shot.level;
+		view.skyPhase = shot.skyPhase;
+		view.position = shot.position;
+		view.playerLane = shot.lane;
+		view.playerX = GameWorld.laneOffsetX(shot.lane);
+		view.playerFlash = false;
+		view.followTrack(mWorld);
+
+		// the player rests on the floor, as the game's altitude settles on it
+		view.playerAltitude = view.floorRow(ConstantsGame.GAME_CANVAS_WIDTH, ConstantsGame.GAME_CANVAS_HEIGHT) + PLAYER_FLOOR_OFFSET;
+		mRecorder.record(mPacket, mWorld, view, mAtlas);
+
+		mRenderer.render(mPacket, mPacket.pixels);
+		return mPacket;
+	}
+
+	// flips the bottom-up frame into a top-down image
+	public static BufferedImage toImage(FramePacket packet) {
+		final var width = packet.width;
+		final var height = packet.height;
+		final var image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+
+		for (int y = 0; y < height; y++)
+			image.setRGB(0, height - 1 - y, width, 1, packet.pixels, y * width, width);
+
+		return image;
+	}
+
+	public static void writePng(FramePacket packet, Path path) throws IOException {
+		if (!ImageIO.write(toImage(packet), "png", path.toFile()))
+			throw new IOException("No png writer available");
+	}
+
+	// top-down ARGB, one big-endian int per pixel, no header
+	public static void writeRaw(FramePacket packet, Path path) throws IOException {
+		final var width = packet.width;
+		final var height = packet.height;
+
+		try (final var out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path)))) {
+			for (int y = height - 1; y >= 0; y--) {
+				final var row = y * width;
+				for (int x = 0; x < width; x++)
+					out.writeInt(packet.pixels[row + x]);
+			}
+		}
+	}
+
+	public static void main(String[] args) throws IOException {
+		var resRoot = Path.of(".");
+		var outDir = Path.of("headless");
+		var format = FORMAT_PNG;
+		var levelNumber = 0;
+		var parallel = ConstantsGame.PARALLEL_RASTERIZATION;
+		var scanlineTrack = ConstantsGame.SCANLINE_TRACK_RENDERING;
+
+		Path scriptPath = null;
+		var start = 0.f;
+		var step = (float) GameWorld.SEGMENT_LENGTH;
+		var numFrames = 60;
+		var lane = 1;
+		var skyPhase = 0.f;
+		var resolution = 0;
+
+		try {
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+				case "--res" -> resRoot = Path.of(args[++i]);
+				case "--out" -> outDir = Path.of(args[++i]);
+				case "--format" -> format = args[++i];
+				case "--level" -> levelNumber = Integer.parseInt(args[++i]);
+				case "--script" -> scriptPath = Path.of(args[++i]);
+				case "--start" -> start = Float.parseFloat(args[++i]);
+				case "--step" -> step = Float.parseFloat(args[++i]);
+				case "--frames" -> numFrames = Integer.parseInt(args[++i]);
+				case "--lane" -> lane = Integer.parseInt(args[++i]);
+				case "--sky" -> skyPhase = Float.parseFloat(args[++i]);
+				case "--resolution" -> resolution = Integer.parseInt(args[++i]);
+				case "--serial" -> parallel = false;
+				case "--quads" -> scanlineTrack = false;
+				default -> throw new IllegalArgumentException("Unknown argument " + args[i]);
+				}
+			}
+
+			if (!format.equals(FORMAT_PNG) && !format.equals(FORMAT_RAW) && !format.equals(FORMAT_NONE))
+				throw new IllegalArgumentException("Unknown format " + format);
+		} catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+			System.err.println(e.getMessage() != null ? e.getMessage() : "Missing argument value");
+			System.err.println("usage: HeadlessRenderer [--res dir] [--level n] [--script file | --start z --step z --frames n --lane l --sky phase --resolution level] [--out dir] [--format png|raw|none] [--serial] [--quads]");
+			System.exit(2);
+			return;
+		}
+
+		final var script = scriptPath != null ? CameraScript.load(scriptPath) : CameraScript.linear(start, step, numFrames, lane, skyPhase, resolution);
+		final var renderer = new HeadlessRenderer(HeadlessAssets.loadGameAtlas(resRoot), levelNumber, parallel, scanlineTrack);
+
+		if (!format.equals(FORMAT_NONE))
+			Files.createDirectories(outDir);
+
+		final var shots = script.shots();
+		var totalNanos = 0L;
+		for (int i = 0; i < shots.size(); i++) {
+			final var packet = renderer.render(shots.get(i));
+			totalNanos += packet.renderNanos;
+
+			final var name = String.format(Locale.ROOT, "frame_%04d", i);
+			switch (format) {
+			case FORMAT_PNG -> writePng(packet, outDir.resolve(name + ".png"));
+			case FORMAT_RAW -> writeRaw(packet, outDir.resolve(name + ".argb"));
+			default -> {
+			}
+			}
+		}
+
+		final var averageMillis = shots.isEmpty() ? 0 : totalNanos / 1000000.0 / shots.size();
+		System.out.println(String.format(Locale.ROOT, "level %d: %d frames, %.3f ms average render time", levelNumber, shots.size(), averageMillis));
+	}
+}
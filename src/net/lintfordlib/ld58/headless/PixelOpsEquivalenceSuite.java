@@ -0,0 +1,211 @@
+package net.lintfordlib.ld58.headless;
+
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.Random;
+
+import net.lintfordlib.ld58.rendering.FogTable;
+import net.lintfordlib.ld58.rendering.PixelOps;
+import net.lintfordlib.ld58.rendering.PixelOpsSelector;
+import net.lintfordlib.ld58.rendering.ScalarPixelOps;
+import net.lintfordlib.ld58.rendering.ShadeFactors;
+import net.lintfordlib.ld58.rendering.SoftwareRasterizer;
+import net.lintfordlib.ld58.rendering.VectorPixelOps;
+
+// Equivalence suite for the PixelOps backends. Runs fillSpan and shadeSpan of ScalarPixelOps (the reference) and
+// VectorPixelOps over the same spans and compares the pixels and depths they leave behind, with every flag combination.
+// The spans start at every offset within a vector register and cover every count from inverted and empty spans up to
+// a few registers plus an odd tail. The depth buffers mix cleared, equal, NaN, +0 and -0 depths, and z itself takes
+// each of those values too. Random spans of up to MAX_RANDOM_SPAN pixels follow. Prints the first mismatches and exits
+// with 1 on any.
+//
+// Needs the vector module: run with --add-modules jdk.incubator.vector.
+//
+// usage: PixelOpsEquivalenceSuite [--runs n] [--seed n]
+public class PixelOpsEquivalenceSuite {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	private static final int MAX_LANES = 16; // 512 bit registers
+	private static final int MIN_COUNT = -3;
+	private static final int MAX_COUNT = 3 * MAX_LANES + 7;
+	private static final int MAX_RANDOM_SPAN = 301;
+	private static final int MAX_REPORTED = 10;
+
+	private static final float[] SPECIAL_Z = { 10.f, 0.f, -0.f, Float.NaN, SoftwareRasterizer.DEPTH_CLEAR };
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final PixelOps mReference;
+	private final PixelOps mCandidate;
+	private final Random mRandom;
+
+	private final int[] mSrc = new int[MAX_LANES + MAX_RANDOM_SPAN];
+	private final int[] mPixels = new int[MAX_LANES + MAX_RANDOM_SPAN];
+	private final float[] mDepth = new float[MAX_LANES + MAX_RANDOM_SPAN];
+
+	private final int[] mPixelsRef = new int[mPixels.length];
+	private final float[] mDepthRef = new float[mDepth.length];
+	private final int[] mPixelsOut = new int[mPixels.length];
+	private final float[] mDepthOut = new float[mDepth.length];
+
+	private int mNumCases;
+	private int mNumMismatches;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int numCases() {
+		return mNumCases;
+	}
+
+	public int numMismatches() {
+		return mNumMismatches;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public PixelOpsEquivalenceSuite(PixelOps reference, PixelOps candidate, long seed) {
+		mReference = reference;
+		mCandidate = candidate;
+		mRandom = new Random(seed);
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public void run(int numRandomRuns) {
+		for (final var z : SPECIAL_Z) {
+			for (int offset = 0; offset <= MAX_LANES; offset++) {
+				for (int count = MIN_COUNT; count <= MAX_COUNT; count++)
+					runSpan(offset, count, z);
+			}
+		}
+
+		for (int run = 0; run < numRandomRuns; run++) {
+			final var offset = mRandom.nextInt(MAX_LANES);
+			final var count = mRandom.nextInt(MAX_RANDOM_SPAN + 1);
+			final var z = mRandom.nextBoolean() ? SPECIAL_Z[mRandom.nextInt(SPECIAL_Z.length)] : mRandom.nextFloat() * 20.f;
+
+			runSpan(offset, count, z);
+		}
+	}
+
+	// one span, both kernels and every flag combination, on freshly randomized buffers
+	private void runSpan(int offset, int count, float z) {
+		final var length = mPixels.length;
+		for (int i = 0; i < length; i++) {
+			mSrc[i] = mRandom.nextInt(4) == 0 ? mRandom.nextInt() & 0x00ffffff : mRandom.nextInt(); // some transparent texels
+			mPixels[i] = mRandom.nextInt();
+			mDepth[i] = randomDepth(z);
+		}
+
+		final var color = mRandom.nextInt();
+		final var tint = mRandom.nextInt();
+		final var fogColor = mRandom.nextInt();
+		final var fogFactor = mRandom.nextInt(FogTable.MAX_FOG_FACTOR + 1);
+		final var shade = new ShadeFactors(tint, fogColor, fogFactor);
+		final var srcIndex = mRandom.nextInt(MAX_LANES);
+
+		for (int flags = 0; flags < 8; flags++) {
+			final var writeOnce = (flags & 1) != 0;
+			final var depthEqual = (flags & 2) != 0;
+			final var testDepth = (flags & 4) != 0;
+
+			reset();
+			mReference.fillSpan(mPixelsRef, mDepthRef, offset, count, z, color, writeOnce, depthEqual, testDepth);
+			mCandidate.fillSpan(mPixelsOut, mDepthOut, offset, count, z, color, writeOnce, depthEqual, testDepth);
+			check(String.format(Locale.ROOT, "fillSpan  offset %2d count %3d z %s writeOnce %b depthEqual %b testDepth %b", offset, count, z, writeOnce, depthEqual, testDepth));
+
+			// the shade kernel only has the depth test flag
+			if (writeOnce || depthEqual)
+				continue;
+
+			reset();
+			mReference.shadeSpan(mSrc, srcIndex, mPixelsRef, mDepthRef, offset, count, z, shade, testDepth);
+			mCandidate.shadeSpan(mSrc, srcIndex, mPixelsOut, mDepthOut, offset, count, z, shade, testDepth);
+			check(String.format(Locale.ROOT, "shadeSpan offset %2d count %3d z %s fog %3d testDepth %b", offset, count, z, fogFactor, testDepth));
+		}
+	}
+
+	private float randomDepth(float z) {
+		return switch (mRandom.nextInt(7)) {
+		case 0 -> SoftwareRasterizer.DEPTH_CLEAR;
+		case 1 -> z;
+		case 2 -> Float.NaN;
+		case 3 -> 0.f;
+		case 4 -> -0.f;
+		case 5 -> 10.f;
+		default -> mRandom.nextFloat() * 20.f;
+		};
+	}
+
+	private void reset() {
+		System.arraycopy(mPixels, 0, mPixelsRef, 0, mPixels.length);
+		System.arraycopy(mPixels, 0, mPixelsOut, 0, mPixels.length);
+		System.arraycopy(mDepth, 0, mDepthRef, 0, mDepth.length);
+		System.arraycopy(mDepth, 0, mDepthOut, 0, mDepth.length);
+	}
+
+	// depths are compared by their bits, so a -0 written in place of a +0 counts as a mismatch
+	private void check(String description) {
+		mNumCases++;
+
+		if (Arrays.equals(mPixelsRef, mPixelsOut) && Arrays.equals(mDepthRef, mDepthOut))
+			return;
+
+		if (mNumMismatches++ >= MAX_REPORTED)
+			return;
+
+		for (int i = 0; i < mPixelsRef.length; i++) {
+			if (mPixelsRef[i] != mPixelsOut[i] || Float.floatToRawIntBits(mDepthRef[i]) != Float.floatToRawIntBits(mDepthOut[i])) {
+				System.out.println(String.format(Locale.ROOT, "FAIL %s: pixel %d is %08x / %s, expected %08x / %s", description, i, mPixelsOut[i], mDepthOut[i], mPixelsRef[i], mDepthRef[i]));
+				return;
+			}
+		}
+	}
+
+	public static void main(String[] args) {
+		var runs = 10000;
+		var seed = 58L;
+
+		try {
+			for (int i = 0; i < args.length; i++) {
+				switch (args[i]) {
+				case "--runs" -> runs = Integer.parseInt(args[++i]);
+				case "--seed" -> seed = Long.parseLong(args[++i]);
+				default -> throw new IllegalArgumentException("Unknown argument " + args[i]);
+				}
+			}
+		} catch (ArrayIndexOutOfBoundsException | IllegalArgumentException e) {
+			System.err.println(e.getMessage() != null ? e.getMessage() : "Missing argument value");
+			System.err.println("usage: PixelOpsEquivalenceSuite [--runs n] [--seed n]");
+			System.exit(2);
+			return;
+		}
+
+		if (ModuleLayer.boot().findModule(PixelOpsSelector.VECTOR_MODULE).isEmpty()) {
+			System.err.println("The vector backend needs --add-modules " + PixelOpsSelector.VECTOR_MODULE);
+			System.exit(2);
+			return;
+		}
+
+		final var vector = new VectorPixelOps();
+		final var suite = new PixelOpsEquivalenceSuite(new ScalarPixelOps(), vector, seed);
+		suite.run(runs);
+
+		System.out.println(String.format(Locale.ROOT, "%s against scalar: %d cases, %d failed", vector.name(), suite.numCases(), suite.numMismatches()));
+		System.out.println("selected at startup: " + PixelOpsSelector.get().name());
+
+		if (suite.numMismatches() > 0)
+			System.exit(1);
+	}
+}
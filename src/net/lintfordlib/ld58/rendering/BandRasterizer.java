@@ -0,0 +1,142 @@
+package net.lintfordlib.ld58.rendering;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Rasterizes a TrackQuadList either in one go, or split into horizontal bands that are filled by ForkJoin workers.
+// Every band walks the whole quad list in submission order and only touches its own rows, so each pixel sees exactly
+// the same sequence of writes as in the serial path and the output is identical.
+public class BandRasterizer {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int MIN_BAND_HEIGHT = 8;
+
+	// --------------------------------------
+	// Inner-Classes
+	// --------------------------------------
+
+	private class BandTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final TrackQuadList mQuads;
+		private final int mRowStart;
+		private final int mRowEnd;
+
+		BandTask(TrackQuadList quads, int rowStart, int rowEnd) {
+			mQuads = quads;
+			mRowStart = rowStart;
+			mRowEnd = rowEnd;
+		}
+
+		@Override
+		protected void compute() {
+			if (mRowEnd - mRowStart <= mBandHeight) {
+				rasterizeBand(mQuads, mRowStart, mRowEnd);
+				return;
+			}
+
+			final var mid = mRowStart + (mRowEnd - mRowStart) / 2;
+			invokeAll(new BandTask(mQuads, mRowStart, mid), new BandTask(mQuads, mid, mRowEnd));
+		}
+	}
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final SoftwareRasterizer mRasterizer;
+	private final ForkJoinPool mPool;
+	private int mBandHeight;
+
+	public boolean parallel;
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public BandRasterizer(SoftwareRasterizer rasterizer, boolean parallel) {
+		mRasterizer = rasterizer;
+		mPool = ForkJoinPool.commonPool();
+		this.parallel = parallel;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public void rasterize(TrackQuadList quads) {
+		final var height = mRasterizer.height();
+
+		if (!parallel || mPool.getParallelism() < 2) {
+			rasterizeBand(quads, 0, height);
+			return;
+		}
+
+		// two bands per worker, so uneven bands (sky vs. road rows) still balance out
+		final var numBands = mPool.getParallelism() * 2;
+		mBandHeight = Math.max(MIN_BAND_HEIGHT, (height + numBands - 1) / numBands);
+
+		mPool.invoke(new BandTask(quads, 0, height));
+	}
+
+	void rasterizeBand(TrackQuadList quads, int rowStart, int rowEnd) {
+		final var coords = quads.coords;
+		final var count = quads.count();
+		final var width = mRasterizer.width();
+
+		for (int i = 0; i < count; i++) {
+			if (quads.maxY[i] <= rowStart || quads.minY[i] >= rowEnd)
+				continue;
+
+			final var c = i * 8;
+			final var flags = quads.flags[i];
+			final var writeOnce = (flags & TrackQuadList.FLAG_WRITE_ONCE) != 0;
+			final var depthEqual = (flags & TrackQuadList.FLAG_DEPTH_EQUAL) != 0;
+
+			if ((flags & TrackQuadList.FLAG_SPAN) != 0) {
+				final var xs = Math.max(coords[c + 0], 0);
+				final var xe = Math.min(coords[c + 2], width);
+
+				if (xs < xe)
+					mRasterizer.fillSpan(coords[c + 1], xs, xe, quads.depths[i], quads.colors[i], writeOnce, depthEqual);
+
+				continue;
+			}
+
+			if ((flags & TrackQuadList.FLAG_TRAPEZOID) != 0) {
+				// @formatter:off
+				mRasterizer.drawTrapezoid(
+						coords[c + 0], coords[c + 1], coords[c + 2],
+						coords[c + 3], coords[c + 4], coords[c + 5],
+						quads.depths[i], quads.colors[i], writeOnce, depthEqual, rowStart, rowEnd);
+				// @formatter:on
+
+				continue;
+			}
+
+			if ((flags & TrackQuadList.FLAG_COLUMN_TRAPEZOID) != 0) {
+				// @formatter:off
+				mRasterizer.drawColumnTrapezoid(
+						coords[c + 0], coords[c + 1], coords[c + 2], coords[c + 3],
+						coords[c + 4], coords[c + 5], coords[c + 6], coords[c + 7],
+						quads.depths[i], quads.colors[i], writeOnce, depthEqual, rowStart, rowEnd);
+				// @formatter:on
+
+				continue;
+			}
+
+			// @formatter:off
+			mRasterizer.drawQuad(
+					coords[c + 0], coords[c + 1],
+					coords[c + 2], coords[c + 3],
+					coords[c + 4], coords[c + 5],
+					coords[c + 6], coords[c + 7],
+					quads.depths[i], quads.colors[i], writeOnce, depthEqual, rowStart, rowEnd);
+			// @formatter:on
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package net.lintfordlib.ld58.rendering;
+
+import net.lintfordlib.ld58.data.TrackStore;
+
+// Per-frame camera state for projecting track points. The yaw/pitch rotation terms are resolved once in set(), so the
+// per-point projection is only multiplies and adds, run straight over the TrackStore arrays.
+public class CameraTransform {
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private float mCamX;
+	private float mCamY;
+	private float mCamZ;
+
+	private float mCosYaw;
+	private float mSinYaw;
+	private float mCosPitch;
+	private float mSinPitch;
+
+	private float mCamDepth;
+	private float mHalfWidth;
+	private float mHalfHeight;
+	private float mHalfRoadWidth;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public float camDepth() {
+		return mCamDepth;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public void set(float camX, float camY, float camZ, float pitch, float yaw, float camDepth, float width, float height, float roadWidth) {
+		mCamX = camX;
+		mCamY = camY;
+		mCamZ = camZ;
+
+		mCosYaw = (float) Math.cos(yaw);
+		mSinYaw = (float) Math.sin(yaw);
+		mCosPitch = (float) Math.cos(pitch);
+		mSinPitch = (float) Math.sin(pitch);
+
+		mCamDepth = camDepth;
+		mHalfWidth = width / 2;
+		mHalfHeight = height / 2;
+		mHalfRoadWidth = roadWidth / 2;
+	}
+
+	public void projectSegment(TrackStore store, int segmentIndex) {
+		projectPoints(store, segmentIndex * 2, 2);
+	}
+
+	// projects count segments starting at firstIndex, wrapping around the end of the track
+	public void projectRun(TrackStore store, int firstIndex, int count) {
+		final var numSegments = store.size();
+		final var firstCount = Math.min(count, numSegments - firstIndex);
+
+		projectPoints(store, firstIndex * 2, firstCount * 2);
+		if (firstCount < count)
+			projectPoints(store, 0, (count - firstCount) * 2);
+	}
+
+	// screen row of a single world point, projected like the track points but without curvature (which only moves x)
+	public float projectY(float worldX, float worldY, float worldZ) {
+		final var cx = worldX - mCamX;
+		final var cy = worldY - mCamY;
+		final var cz = worldZ - mCamZ;
+
+		final var zYaw = -cx * mSinYaw + cz * mCosYaw;
+		final var z = cy * mSinPitch + zYaw * mCosPitch;
+
+		return Math.round(mHalfHeight + (mCamDepth / z * cy * mHalfHeight));
+	}
+
+	// world -> camera -> screen over a contiguous range of points. The point curvature is applied as a camera x offset.
+	private void projectPoints(TrackStore store, int firstPoint, int numPoints) {
+		final var worldX = store.worldX;
+		final var worldY = store.worldY;
+		final var worldZ = store.worldZ;
+		final var curvature = store.curvature;
+		final var cameraX = store.cameraX;
+		final var cameraY = store.cameraY;
+		final var cameraZ = store.cameraZ;
+		final var screenX = store.screenX;
+		final var screenY = store.screenY;
+		final var screenZ = store.screenZ;
+		final var screenScale = store.screenScale;
+
+		final var end = firstPoint + numPoints;
+		for (int i = firstPoint; i < end; i++) {
+			final var cx = worldX[i] - (mCamX - curvature[i]);
+			final var cy = worldY[i] - mCamY;
+			final var cz = worldZ[i] - mCamZ;
+
+			final var xYaw = cx * mCosYaw + cz * mSinYaw;
+			final var zYaw = -cx * mSinYaw + cz * mCosYaw;
+			final var z = cy * mSinPitch + zYaw * mCosPitch;
+
+			cameraX[i] = xYaw;
+			cameraY[i] = cy;
+			cameraZ[i] = z;
+
+			final var scale = mCamDepth / z;
+			screenScale[i] = scale;
+
+			screenX[i] = Math.round(mHalfWidth + (scale * xYaw * mHalfWidth));
+			screenY[i] = Math.round(mHalfHeight + (scale * cy * mHalfHeight));
+			screenZ[i] = Math.round((scale * mHalfRoadWidth * mHalfWidth));
+		}
+	}
+}
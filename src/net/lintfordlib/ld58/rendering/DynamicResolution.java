@@ -0,0 +1,96 @@
+package net.lintfordlib.ld58.rendering;
+
+// Picks the internal render resolution from the measured software render time. The time is smoothed, a switch is only
+// considered after HOLD_FRAMES frames at the current level, and stepping up needs the predicted time (render cost
+// scales with the pixel count) to fit well inside the budget, so the resolution doesn't flicker between two levels.
+public class DynamicResolution {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final float[] SCALES = { 1.f, 1.5f, 2.f, 3.f };
+
+	public static final int HOLD_FRAMES = 60;
+
+	private static final float SMOOTHING = .1f;
+	private static final float STEP_DOWN_RATIO = .95f;
+	private static final float STEP_UP_RATIO = .7f;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final float mBudgetMillis;
+	private final boolean mEnabled;
+	private int mLevel;
+	private float mAverageMillis;
+	private int mFramesAtLevel;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int level() {
+		return mLevel;
+	}
+
+	public float scale() {
+		return SCALES[mLevel];
+	}
+
+	public float averageMillis() {
+		return mAverageMillis;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public DynamicResolution(float budgetMillis, boolean enabled) {
+		mBudgetMillis = budgetMillis;
+		mEnabled = enabled;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static int scaledSize(int size, int level) {
+		return (int) (size * SCALES[level]);
+	}
+
+	// renderMillis: time spent rasterizing a frame that was rendered at renderLevel
+	public void addSample(float renderMillis, int renderLevel) {
+		if (!mEnabled)
+			return;
+
+		// samples of frames recorded before the last switch would be measured at the wrong size
+		if (renderLevel != mLevel)
+			return;
+
+		mAverageMillis = mFramesAtLevel == 0 ? renderMillis : mAverageMillis + (renderMillis - mAverageMillis) * SMOOTHING;
+		mFramesAtLevel++;
+
+		if (mFramesAtLevel < HOLD_FRAMES)
+			return;
+
+		if (mAverageMillis > mBudgetMillis * STEP_DOWN_RATIO && mLevel > 0) {
+			switchTo(mLevel - 1);
+			return;
+		}
+
+		if (mLevel < SCALES.length - 1) {
+			final var ratio = SCALES[mLevel + 1] / SCALES[mLevel];
+			final var predictedMillis = mAverageMillis * ratio * ratio;
+
+			if (predictedMillis < mBudgetMillis * STEP_UP_RATIO)
+				switchTo(mLevel + 1);
+		}
+	}
+
+	private void switchTo(int level) {
+		mLevel = level;
+		mFramesAtLevel = 0;
+	}
+}
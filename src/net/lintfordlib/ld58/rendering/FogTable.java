@@ -0,0 +1,119 @@
+package net.lintfordlib.ld58.rendering;
+
+import java.util.Arrays;
+
+// Lookup table of pre-fogged colors. Each registered base color has one entry per fog factor (0-256), so the track
+// pass only has to compute one fog factor per segment and can then look up every polygon color.
+public class FogTable {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int MAX_FOG_FACTOR = 256;
+	public static final int NUM_FOG_LEVELS = MAX_FOG_FACTOR + 1;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private int[] mBaseColors = new int[8];
+	private int mNumBaseColors;
+	private int[] mTable = new int[0];
+
+	private int mFogColor;
+	private int mMaxDistance = 1;
+	private boolean mIsDirty = true;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int fogColor() {
+		return mFogColor;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	// returns the slot used to look up the fogged versions of this color
+	public int addBaseColor(int color) {
+		for (int i = 0; i < mNumBaseColors; i++) {
+			if (mBaseColors[i] == color)
+				return i;
+		}
+
+		if (mNumBaseColors == mBaseColors.length)
+			mBaseColors = Arrays.copyOf(mBaseColors, mNumBaseColors * 2);
+
+		mBaseColors[mNumBaseColors] = color;
+		mIsDirty = true;
+		return mNumBaseColors++;
+	}
+
+	// called once per frame. The table only needs rebuilding when the fog color changes.
+	public void update(int fogColor, int maxDistance) {
+		mMaxDistance = Math.max(maxDistance, 1);
+
+		if (mIsDirty || fogColor != mFogColor) {
+			mFogColor = fogColor;
+			rebuild();
+		}
+	}
+
+	public int fogFactor(int distance) {
+		// Calculate fog factor (0-256, where 256 = full fog)
+		final var fogFactor = (distance * MAX_FOG_FACTOR) / mMaxDistance;
+
+		if (fogFactor < 0)
+			return 0;
+		if (fogFactor > MAX_FOG_FACTOR)
+			return MAX_FOG_FACTOR;
+
+		return fogFactor;
+	}
+
+	public int color(int slot, int fogFactor) {
+		return mTable[slot * NUM_FOG_LEVELS + fogFactor];
+	}
+
+	private void rebuild() {
+		if (mTable.length != mNumBaseColors * NUM_FOG_LEVELS)
+			mTable = new int[mNumBaseColors * NUM_FOG_LEVELS];
+
+		for (int i = 0; i < mNumBaseColors; i++) {
+			final var offset = i * NUM_FOG_LEVELS;
+			for (int j = 0; j < NUM_FOG_LEVELS; j++) {
+				mTable[offset + j] = blend(mBaseColors[i], mFogColor, j);
+			}
+		}
+
+		mIsDirty = false;
+	}
+
+	public static int blend(int objectColor, int fogColor, int fogFactor) {
+		int invFogFactor = MAX_FOG_FACTOR - fogFactor;
+
+		// Extract ARGB components from object color
+		int objA = (objectColor >> 24) & 0xFF;
+		int objR = (objectColor >> 16) & 0xFF;
+		int objG = (objectColor >> 8) & 0xFF;
+		int objB = objectColor & 0xFF;
+
+		// Extract ARGB components from fog color
+		int fogA = (fogColor >> 24) & 0xFF;
+		int fogR = (fogColor >> 16) & 0xFF;
+		int fogG = (fogColor >> 8) & 0xFF;
+		int fogB = fogColor & 0xFF;
+
+		// Blend using fixed-point math: result = object * (1 - fogFactor) + fog * fogFactor
+		int blendA = (objA * invFogFactor + fogA * fogFactor) >> 8;
+		int blendR = (objR * invFogFactor + fogR * fogFactor) >> 8;
+		int blendG = (objG * invFogFactor + fogG * fogFactor) >> 8;
+		int blendB = (objB * invFogFactor + fogB * fogFactor) >> 8;
+
+		// Combine back into ARGB8888 format
+		return (blendA << 24) | (blendR << 16) | (blendG << 8) | blendB;
+	}
+}
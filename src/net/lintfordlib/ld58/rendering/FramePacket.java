@@ -0,0 +1,41 @@
+package net.lintfordlib.ld58.rendering;
+
+// Everything the software renderer needs to rasterize one frame, recorded on the main thread. Once handed to the
+// FramePipeline the packet belongs to the render worker until the pipeline hands it back for recording. The worker only
+// reads it, except that it sorts sprites, rasterizes into pixels and writes renderNanos.
+public class FramePacket {
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	public final TrackQuadList quads = new TrackQuadList();
+	public final SpriteQueue sprites = new SpriteQueue();
+
+	public float skyPhase;
+	public int fogColor;
+
+	public int[] atlasPixels;
+	public int atlasStride;
+
+	// render resolution of this frame (see DynamicResolution)
+	public int level;
+	public int width;
+	public int height;
+
+	// the rasterized frame (bottom-up ARGB, like the FullScreenBuffer). Sized for the largest resolution.
+	public final int[] pixels;
+
+	// written by SoftwareFrameRenderer.render
+	public long renderNanos;
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public FramePacket(int maxWidth, int maxHeight) {
+		this.width = maxWidth;
+		this.height = maxHeight;
+		this.pixels = new int[maxWidth * maxHeight];
+	}
+}
@@ -0,0 +1,106 @@
+package net.lintfordlib.ld58.rendering;
+
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+// Double-buffered frame packets. The main thread records frame N+1 into one packet while a render worker rasterizes
+// frame N from the other, so a frame costs max(update, render) instead of update + render (with one frame of latency).
+public class FramePipeline {
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final FramePacket[] mPackets = new FramePacket[2];
+	private int mRecordIndex;
+
+	private final Consumer<FramePacket> mRenderer;
+	private ExecutorService mWorker;
+	private Future<?> mInFlight;
+	private FramePacket mInFlightPacket;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	// the packet the main thread may record into. It is never the one being rendered.
+	public FramePacket recordPacket() {
+		return mPackets[mRecordIndex];
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public FramePipeline(int maxWidth, int maxHeight, Consumer<FramePacket> renderer) {
+		mPackets[0] = new FramePacket(maxWidth, maxHeight);
+		mPackets[1] = new FramePacket(maxWidth, maxHeight);
+		mRenderer = renderer;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	// Waits for the frame in flight, hands the recorded packet to the worker and returns the packet that just finished
+	// rendering (null on the first frame).
+	public FramePacket submit() {
+		final var completed = waitForInFlight();
+
+		if (mWorker == null) {
+			mWorker = Executors.newSingleThreadExecutor(runnable -> {
+				final var thread = new Thread(runnable, "SoftwareRenderWorker");
+				thread.setDaemon(true);
+				return thread;
+			});
+		}
+
+		final var packet = mPackets[mRecordIndex];
+		mInFlightPacket = packet;
+		mInFlight = mWorker.submit(() -> mRenderer.accept(packet));
+
+		mRecordIndex = 1 - mRecordIndex;
+		return completed;
+	}
+
+	public FramePacket waitForInFlight() {
+		if (mInFlight == null)
+			return null;
+
+		// the packet can only be handed back once the worker is done with it, so an interrupt does not end the wait
+		var interrupted = false;
+		try {
+			while (true) {
+				try {
+					mInFlight.get();
+					break;
+				} catch (InterruptedException e) {
+					interrupted = true;
+				}
+			}
+		} catch (ExecutionException e) {
+			throw new RuntimeException("Software render worker failed", e.getCause());
+		} finally {
+			mInFlight = null;
+
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+
+		final var completed = mInFlightPacket;
+		mInFlightPacket = null;
+		return completed;
+	}
+
+	public void shutdown() {
+		waitForInFlight();
+
+		if (mWorker != null) {
+			mWorker.shutdown();
+			mWorker = null;
+		}
+	}
+}
@@ -0,0 +1,21 @@
+package net.lintfordlib.ld58.rendering;
+
+// The per-pixel inner loops of the software renderer. ScalarPixelOps is the reference implementation, VectorPixelOps
+// processes a full SIMD register of pixels per step and is picked by PixelOpsSelector when the platform supports it.
+public interface PixelOps {
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	String name();
+
+	// Writes color/z into count pixels starting at index. writeOnce: only pixels with a cleared depth are written.
+	// testDepth: only pixels passing the depth test (z == depth with depthEqual, otherwise z < depth) are written. A NaN
+	// depth or z fails either test.
+	void fillSpan(int[] pixels, float[] depth, int index, int count, float z, int color, boolean writeOnce, boolean depthEqual, boolean testDepth);
+
+	// Copies count texels from src into pixels, tinted and fogged by shade. Texels with zero alpha are skipped, and with
+	// testDepth only pixels where z < depth are written.
+	void shadeSpan(int[] src, int srcIndex, int[] pixels, float[] depth, int index, int count, float z, ShadeFactors shade, boolean testDepth);
+}
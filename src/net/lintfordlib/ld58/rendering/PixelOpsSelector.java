@@ -0,0 +1,118 @@
+package net.lintfordlib.ld58.rendering;
+
+import java.util.Arrays;
+import java.util.Random;
+
+// Picks the PixelOps backend once at startup. The vector backend is only used when the jdk.incubator.vector module
+// was resolved (run with --add-modules jdk.incubator.vector) and it produces exactly the same pixels and depths as the
+// scalar backend on a set of randomized spans. Any failure falls back to the scalar backend.
+public final class PixelOpsSelector {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final String VECTOR_MODULE = "jdk.incubator.vector";
+
+	private static final String VECTOR_OPS_CLASS = "net.lintfordlib.ld58.rendering.VectorPixelOps";
+	private static final int NUM_CHECK_RUNS = 64;
+	private static final int MAX_CHECK_SPAN = 97; // not a multiple of any vector length, so the tails are covered
+	private static final int MAX_NEGATIVE_COUNT = 8;
+
+	private static final PixelOps SELECTED = select();
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	private PixelOpsSelector() {
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public static PixelOps get() {
+		return SELECTED;
+	}
+
+	private static PixelOps select() {
+		final var scalar = new ScalarPixelOps();
+
+		if (ModuleLayer.boot().findModule(VECTOR_MODULE).isEmpty())
+			return scalar;
+
+		try {
+			final var vector = (PixelOps) Class.forName(VECTOR_OPS_CLASS).getDeclaredConstructor().newInstance();
+			return isEquivalent(scalar, vector) ? vector : scalar;
+		} catch (ReflectiveOperationException | LinkageError | RuntimeException e) {
+			return scalar;
+		}
+	}
+
+	// runs both backends over the same random spans (all flag combinations, tails included) and compares the results
+	public static boolean isEquivalent(PixelOps reference, PixelOps candidate) {
+		final var random = new Random(58);
+		final var length = MAX_CHECK_SPAN + 8;
+
+		final var src = new int[length];
+		final var pixelsA = new int[length];
+		final var pixelsB = new int[length];
+		final var depthA = new float[length];
+		final var depthB = new float[length];
+
+		for (int run = 0; run < NUM_CHECK_RUNS; run++) {
+			for (int i = 0; i < length; i++) {
+				src[i] = random.nextInt(4) == 0 ? random.nextInt() & 0x00ffffff : random.nextInt();
+				pixelsA[i] = random.nextInt();
+				depthA[i] = switch (random.nextInt(5)) {
+				case 0 -> SoftwareRasterizer.DEPTH_CLEAR;
+				case 1 -> 10.f;
+				case 2 -> Float.NaN;
+				case 3 -> random.nextBoolean() ? 0.f : -0.f;
+				default -> random.nextFloat() * 20.f;
+				};
+			}
+
+			final var index = random.nextInt(8);
+			final var count = random.nextInt(MAX_CHECK_SPAN + 1 + MAX_NEGATIVE_COUNT) - MAX_NEGATIVE_COUNT; // clipped spans can be inverted
+			final var z = random.nextBoolean() ? 10.f : random.nextFloat() * 20.f;
+			final var color = random.nextInt();
+			final var tint = random.nextInt();
+			final var fogColor = random.nextInt();
+			final var fogFactor = random.nextInt(FogTable.MAX_FOG_FACTOR + 1);
+			final var shade = new ShadeFactors(tint, fogColor, fogFactor);
+
+			for (int flags = 0; flags < 8; flags++) {
+				final var writeOnce = (flags & 1) != 0;
+				final var depthEqual = (flags & 2) != 0;
+				final var testDepth = (flags & 4) != 0;
+
+				reset(pixelsA, depthA, pixelsB, depthB);
+				final var pixelsRef = pixelsB.clone();
+				final var depthRef = depthB.clone();
+
+				reference.fillSpan(pixelsRef, depthRef, index, count, z, color, writeOnce, depthEqual, testDepth);
+				candidate.fillSpan(pixelsB, depthB, index, count, z, color, writeOnce, depthEqual, testDepth);
+				if (!Arrays.equals(pixelsRef, pixelsB) || !Arrays.equals(depthRef, depthB))
+					return false;
+
+				reset(pixelsA, depthA, pixelsB, depthB);
+				final var shadedRef = pixelsB.clone();
+				final var shadedDepthRef = depthB.clone();
+
+				reference.shadeSpan(src, 8 - index, shadedRef, shadedDepthRef, index, count, z, shade, testDepth);
+				candidate.shadeSpan(src, 8 - index, pixelsB, depthB, index, count, z, shade, testDepth);
+				if (!Arrays.equals(shadedRef, pixelsB) || !Arrays.equals(shadedDepthRef, depthB))
+					return false;
+			}
+		}
+
+		return true;
+	}
+
+	private static void reset(int[] pixelsSrc, float[] depthSrc, int[] pixels, float[] depth) {
+		System.arraycopy(pixelsSrc, 0, pixels, 0, pixels.length);
+		System.arraycopy(depthSrc, 0, depth, 0, depth.length);
+	}
+}
@@ -0,0 +1,48 @@
+package net.lintfordlib.ld58.rendering;
+
+public class ScalarPixelOps implements PixelOps {
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	@Override
+	public String name() {
+		return "scalar";
+	}
+
+	@Override
+	public void fillSpan(int[] pixels, float[] depth, int index, int count, float z, int color, boolean writeOnce, boolean depthEqual, boolean testDepth) {
+		final var end = index + count;
+		for (int i = index; i < end; i++) {
+			final var d = depth[i];
+
+			if (writeOnce && d != SoftwareRasterizer.DEPTH_CLEAR)
+				continue;
+
+			// written only where the test holds, so a NaN on either side never passes
+			if (testDepth && (depthEqual ? d != z : !(z < d)))
+				continue;
+
+			pixels[i] = color;
+			depth[i] = z;
+		}
+	}
+
+	@Override
+	public void shadeSpan(int[] src, int srcIndex, int[] pixels, float[] depth, int index, int count, float z, ShadeFactors shade, boolean testDepth) {
+		var s = srcIndex;
+		final var end = index + count;
+		for (int i = index; i < end; i++, s++) {
+			final var texel = src[s];
+			if ((texel >>> 24) == 0)
+				continue;
+
+			if (testDepth && !(z < depth[i]))
+				continue;
+
+			pixels[i] = shade.shade(texel);
+			depth[i] = z;
+		}
+	}
+}
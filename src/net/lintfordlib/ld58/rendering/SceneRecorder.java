@@ -0,0 +1,540 @@
+package net.lintfordlib.ld58.rendering;
+
+import net.lintfordlib.core.maths.InterpolationHelper;
+import net.lintfordlib.core.maths.MathHelper;
+import net.lintfordlib.ld58.data.GameTextureNames;
+import net.lintfordlib.ld58.data.GameWorld;
+import net.lintfordlib.ld58.data.GameWorld.TrackProjectile;
+import net.lintfordlib.ld58.data.GameWorld.TrackSegment;
+
+// Projects the visible part of a GameWorld for a SceneView and records the track quads and sprites of the frame into a
+// FramePacket. Needs no GL, the packet is rasterized by a SoftwareFrameRenderer. Projection writes the screen space
+// values back into the world's TrackStore. Gameplay does not read them, it projects the floor itself (see SceneView.floorRow).
+public class SceneRecorder {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int WALL_HEIGHT = 60;
+
+	public static final int FOG_COLOR = 0x00ffffff;
+	public static final int COLOR_WALL_LEFT = 0xaa282141;
+	public static final int COLOR_WALL_RIGHT = 0xaac16a3a;
+	public static final int COLOR_ROAD_0 = 0xffa4bfaf;
+	public static final int COLOR_ROAD_1 = 0xffa4bfef;
+	public static final int COLOR_LANE = 0x552f4f4f;
+
+	// frames blitted by the software renderer
+	public static final int[] SPRITE_FRAMES = { GameTextureNames.COIN_00, GameTextureNames.ENEMY_HARD, GameTextureNames.ENEMY_MID, GameTextureNames.PLAYER_MID, GameTextureNames.WALL_00, GameTextureNames.OBJECT_SHADOW, GameTextureNames.BULLET };
+
+	private static final int NUM_LANES = GameWorld.NUM_LANES;
+	private static final float ROAD_WIDTH = GameWorld.ROAD_WIDTH;
+	private static final int SEGMENT_LENGTH = GameWorld.SEGMENT_LENGTH;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final int mBaseWidth;
+	private final int mBaseHeight;
+	private float mRenderScale = 1.f;
+	private int mCanvasWidth;
+	private int mCanvasHeight;
+
+	private final CameraTransform mCameraTransform = new CameraTransform();
+	private boolean mScanlineTrack;
+
+	private final FogTable mFogTable = new FogTable();
+	private final int mFogSlotWallLeft = mFogTable.addBaseColor(COLOR_WALL_LEFT);
+	private final int mFogSlotWallRight = mFogTable.addBaseColor(COLOR_WALL_RIGHT);
+	private final int mFogSlotRoad0 = mFogTable.addBaseColor(COLOR_ROAD_0);
+	private final int mFogSlotRoad1 = mFogTable.addBaseColor(COLOR_ROAD_1);
+	private float mFogStartZ;
+	private boolean mFogSprites;
+
+	// per record() call
+	private GameWorld mWorld;
+	private SceneView mView;
+	private SpriteAtlas mAtlas;
+	private TrackQuadList mTrackQuads;
+	private SpriteQueue mSpriteQueue;
+	private int mDrawDistance;
+
+	private SpriteSpans mShadowSpans;
+	private int mShadowSrcX;
+	private int mShadowSrcY;
+	private int mShadowSrcW;
+	private int mShadowSrcH;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public boolean scanlineTrack() {
+		return mScanlineTrack;
+	}
+
+	public void scanlineTrack(boolean scanlineTrack) {
+		mScanlineTrack = scanlineTrack;
+	}
+
+	// sprites are drawn unfogged unless enabled
+	public boolean fogSprites() {
+		return mFogSprites;
+	}
+
+	public void fogSprites(boolean fogSprites) {
+		mFogSprites = fogSprites;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public SceneRecorder(int baseWidth, int baseHeight, boolean scanlineTrack) {
+		mBaseWidth = baseWidth;
+		mBaseHeight = baseHeight;
+		mCanvasWidth = baseWidth;
+		mCanvasHeight = baseHeight;
+		mScanlineTrack = scanlineTrack;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public void record(FramePacket packet, GameWorld world, SceneView view, SpriteAtlas atlas) {
+		mWorld = world;
+		mView = view;
+		mAtlas = atlas;
+		mTrackQuads = packet.quads;
+		mSpriteQueue = packet.sprites;
+
+		// The track is projected at the render resolution
+		mRenderScale = DynamicResolution.SCALES[view.level];
+		mCanvasWidth = DynamicResolution.scaledSize(mBaseWidth, view.level);
+		mCanvasHeight = DynamicResolution.scaledSize(mBaseHeight, view.level);
+
+		packet.level = view.level;
+		packet.width = mCanvasWidth;
+		packet.height = mCanvasHeight;
+
+		packet.atlasPixels = atlas.pixels();
+		packet.atlasStride = atlas.stride();
+		packet.fogColor = FOG_COLOR;
+		packet.skyPhase = view.skyPhase;
+
+		recordTrack();
+		recordSprites();
+	}
+
+	private void recordTrack() {
+		final var position = mView.position;
+		final var playerZ = mView.playerZ;
+
+		final var baseSegment = mView.cameraSegment;
+		final var basePercent = GameWorld.segmentPercent(position);
+
+		final var playerY = GameWorld.worldHeight(mView.playerSegment, position + playerZ);
+
+		final var canvasWidth = mCanvasWidth;
+		final var canvasHeight = mCanvasHeight;
+
+		mTrackQuads.clear();
+
+		// segments drawn front to back
+		float maxY = -canvasHeight / 2; // clip segments based on height
+		final var trackSegments = mWorld.segments();
+		final var numSegments = trackSegments.size();
+
+		mDrawDistance = MathHelper.clampi(mView.drawDistance, 0, numSegments);
+
+		final var fogMaxDistance = (int) (mDrawDistance * SEGMENT_LENGTH * .7f);
+		mFogStartZ = position + playerZ + fogMaxDistance * .5f;
+		mFogTable.update(FOG_COLOR, fogMaxDistance);
+
+		// curvature offsets of the visible segments, straight from the prefix sums built with the level
+		mWorld.trackStore().curvatureRun(baseSegment.index, basePercent, mDrawDistance);
+
+		for (int i = 0; i < mDrawDistance; i++) {
+			final var segment = trackSegments.get((baseSegment.index + i) % numSegments);
+			segment.isLooped = segment.index < baseSegment.index;
+		}
+
+		// project the whole run with this frame's camera
+		final var view = mView;
+		mCameraTransform.set(view.playerX * ROAD_WIDTH, playerY + view.cameraHeight, position + view.cameraOffsetZ, view.cameraPitch, view.cameraYaw, view.cameraDepth, canvasWidth, canvasHeight, ROAD_WIDTH);
+		mCameraTransform.projectRun(mWorld.trackStore(), baseSegment.index, mDrawDistance);
+
+		for (int i = 0; i < mDrawDistance; i++) {
+			final var segment = trackSegments.get((baseSegment.index + i) % numSegments);
+
+			segment.clipSpaceY = maxY; // used to clip the sprites/cars in next pass
+
+			// check clipped (height based)
+			final var isBehindUs = (segment.p0.cameraZ() <= view.cameraDepth * playerZ);
+			final var isOccluded = isBehindCrest(segment, maxY);
+
+			segment.isClipped = isBehindUs;
+
+			if (isBehindUs || isOccluded)
+				continue;
+
+			if (mScanlineTrack) {
+				drawSegmentScanlines(segment, canvasWidth, canvasHeight, maxY);
+			} else {
+				var drawLanes = (segment.p1.screenY() > maxY);
+
+				drawSegment(segment, (int) canvasWidth, NUM_LANES, drawLanes);
+			}
+
+			maxY = segment.p1.screenY();
+		}
+	}
+
+	// true when the road and both wall tops of the segment are at or below the crest of the nearer segments
+	private boolean isBehindCrest(TrackSegment segment, float crestY) {
+		final var p0 = segment.p0;
+		final var p1 = segment.p1;
+
+		if (p0.screenY() > crestY || p1.screenY() > crestY)
+			return false;
+
+		final var wallHeight = WALL_HEIGHT * mCanvasHeight;
+		return p0.screenY() + wallHeight * p0.screenScale() <= crestY && p1.screenY() + wallHeight * p1.screenScale() <= crestY;
+	}
+
+	private void drawSegment(TrackSegment segment, int canvasWidth, int numLanes, boolean drawLanes) {
+		// @formatter:off
+		final var p0 = segment.p0;
+		final var p1 = segment.p1;
+
+		final var fogFactor = getFogFactor(segment);
+
+		final var lineZ0 = p0.screenScale() * canvasWidth / 2;
+		final var lineZ1 = p1.screenScale() * canvasWidth / 2;
+
+		final var laneWidth = 2;
+
+		drawSegmentWalls(segment, fogFactor);
+
+		// road and lane markings have horizontal top and bottom edges, so they go in as trapezoids (the walls as column
+		// trapezoids). Each run of consecutive filled lanes is one strip of road.
+		final var laneStep = ROAD_WIDTH / NUM_LANES;
+		final var roadLeft0 = p0.screenX() - p0.screenZ();
+		final var roadLeft1 = p1.screenX() - p1.screenZ();
+		final var roadColor = mFogTable.color(segment.variation == 0 ? mFogSlotRoad0 : mFogSlotRoad1, fogFactor);
+
+		for (int i = 0; i < NUM_LANES; i++)  {
+			if(!segment.laneFill(i))
+				continue;
+
+			final var runStart = i;
+			while (i + 1 < NUM_LANES && segment.laneFill(i + 1))
+				i++;
+
+			mTrackQuads.addTrapezoid(
+					(int)p0.screenY(), (int)(roadLeft0 + runStart * laneStep * lineZ0), (int)(roadLeft0 + (i + 1) * laneStep * lineZ0),
+					(int)p1.screenY(), (int)(roadLeft1 + runStart * laneStep * lineZ1), (int)(roadLeft1 + (i + 1) * laneStep * lineZ1),
+					p0.worldZ(), roadColor, TrackQuadList.FLAG_WRITE_ONCE);
+		}
+
+		// Lane markings, only between two filled lanes. They are not fogged.
+		if (drawLanes) {
+			for (int i = 0; i < NUM_LANES - 1; i++) {
+				if (!segment.laneFill(i) || !segment.laneFill(i + 1))
+					continue;
+
+				final var lx0 = roadLeft0 + (i + 1) * laneStep * lineZ0;
+				final var lx1 = roadLeft1 + (i + 1) * laneStep * lineZ1;
+
+				mTrackQuads.addTrapezoid(
+						(int) p0.screenY(), (int) (lx0 - laneWidth * lineZ0), (int) (lx0 + laneWidth * lineZ0),
+						(int) p1.screenY(), (int) (lx1 - laneWidth * lineZ1), (int) (lx1 + laneWidth * lineZ1),
+						p0.worldZ(), COLOR_LANE, TrackQuadList.FLAG_DEPTH_EQUAL);
+			}
+		}
+
+
+		// @formatter:on
+	}
+
+	// Line-based alternative to drawSegment: the road, lanes and markings are emitted as one span per screen row, and only
+	// for the rows this segment actually owns (above the crest of the nearer segments). The walls go in as in drawSegment.
+	private void drawSegmentScanlines(TrackSegment segment, int canvasWidth, int canvasHeight, float clipY) {
+		final var p0 = segment.p0;
+		final var p1 = segment.p1;
+
+		final var fogFactor = getFogFactor(segment);
+
+		drawSegmentWalls(segment, fogFactor);
+
+		final var y0 = p0.screenY();
+		final var y1 = p1.screenY();
+
+		// facing away or fully behind the crest
+		if (y1 <= y0 || y1 <= clipY)
+			return;
+
+		final var rowStart = Math.max((int) Math.max(y0, clipY), 0);
+		final var rowEnd = Math.min((int) y1, canvasHeight);
+
+		final var z = p0.worldZ();
+		final var roadColor = mFogTable.color(segment.variation == 0 ? mFogSlotRoad0 : mFogSlotRoad1, fogFactor);
+
+		final var laneStep = ROAD_WIDTH / NUM_LANES;
+		final var markingWidth = 2;
+
+		final var invHeight = 1.f / (y1 - y0);
+		for (int y = rowStart; y < rowEnd; y++) {
+			final var t = (y + .5f - y0) * invHeight;
+
+			final var roadLeft = InterpolationHelper.lerp(p0.screenX() - p0.screenZ(), p1.screenX() - p1.screenZ(), t);
+			final var halfScale = InterpolationHelper.lerp(p0.screenScale(), p1.screenScale(), t) * canvasWidth / 2;
+
+			// one span per run of consecutive filled lanes
+			for (int i = 0; i < NUM_LANES; i++) {
+				if (!segment.laneFill(i))
+					continue;
+
+				final var runStart = i;
+				while (i + 1 < NUM_LANES && segment.laneFill(i + 1))
+					i++;
+
+				final var lx = roadLeft + runStart * laneStep * halfScale;
+				mTrackQuads.addSpan(y, spanX(lx), spanX(roadLeft + (i + 1) * laneStep * halfScale), z, roadColor, TrackQuadList.FLAG_WRITE_ONCE);
+			}
+
+			for (int i = 0; i < NUM_LANES - 1; i++) {
+				if (!segment.laneFill(i) || !segment.laneFill(i + 1))
+					continue;
+
+				final var lx = roadLeft + (i + 1) * laneStep * halfScale;
+				mTrackQuads.addSpan(y, spanX(lx - markingWidth * halfScale), spanX(lx + markingWidth * halfScale), z, COLOR_LANE, TrackQuadList.FLAG_DEPTH_EQUAL);
+			}
+		}
+	}
+
+	// first pixel whose center lies at or right of x
+	private static int spanX(float x) {
+		return (int) Math.ceil(x - .5f);
+	}
+
+	// the walls lean outwards by r at the top. Their sides are near-vertical, so they go in as column trapezoids.
+	private void drawSegmentWalls(TrackSegment segment, int fogFactor) {
+		// @formatter:off
+		final var p0 = segment.p0;
+		final var p1 = segment.p1;
+
+		final var r0 = p0.screenZ() / 30.0f;
+		final var r1 = p1.screenZ() / 30.0f;
+
+		// wall left
+		final var wallHeight = WALL_HEIGHT;
+		mTrackQuads.addColumnTrapezoid(
+				(int) (p0.screenX() - p0.screenZ()), 		(int) p0.screenY(),
+				(int) (p0.screenX() - p0.screenZ() - r0), (int) (p0.screenY() + wallHeight * p0.screenScale() * mCanvasHeight),
+				(int) (p1.screenX() - p1.screenZ()),		(int) p1.screenY(),
+				(int) (p1.screenX() - p1.screenZ() - r1), (int) (p1.screenY() + wallHeight * p1.screenScale() * mCanvasHeight),
+				p0.worldZ(), mFogTable.color(mFogSlotWallLeft, fogFactor), TrackQuadList.FLAG_WRITE_ONCE);
+
+		// wall right
+		mTrackQuads.addColumnTrapezoid(
+				(int) (p0.screenX() + p0.screenZ() + 1), 		(int) (p0.screenY()),
+				(int) (p0.screenX() + p0.screenZ() + r0), (int) (p0.screenY() + wallHeight/2 * p0.screenScale() * mCanvasHeight),
+				(int) (p1.screenX() + p1.screenZ() + 1), 		(int) (p1.screenY()),
+				(int) (p1.screenX() + p1.screenZ() + r1), (int) (p1.screenY() + wallHeight/2 * p1.screenScale() * mCanvasHeight),
+				p0.worldZ(), mFogTable.color(mFogSlotWallRight, fogFactor), TrackQuadList.FLAG_WRITE_ONCE);
+
+		// @formatter:on
+	}
+
+	// collects every visible sprite (props, entities, projectiles, shadows and the player) in one pass over the visible
+	// segments. The renderer sorts them front to back and blits them in one go.
+	private void recordSprites() {
+		final var baseSegment = mView.cameraSegment;
+		final var trackSegments = mWorld.segments();
+		final var numSegments = trackSegments.size();
+
+		mShadowSrcX = mAtlas.frameX(GameTextureNames.OBJECT_SHADOW);
+		mShadowSrcY = mAtlas.frameY(GameTextureNames.OBJECT_SHADOW);
+		mShadowSrcW = mAtlas.frameW(GameTextureNames.OBJECT_SHADOW);
+		mShadowSrcH = mAtlas.frameH(GameTextureNames.OBJECT_SHADOW);
+		mShadowSpans = mAtlas.spans(GameTextureNames.OBJECT_SHADOW);
+
+		mSpriteQueue.clear();
+
+		for (int i = 0; i < mDrawDistance; i++) {
+			final var segment = trackSegments.get((baseSegment.index + i) % numSegments);
+			if (segment.isClipped)
+				continue;
+
+			final var entityZ = segment.p0.worldZ() - 10; // cheat a little
+			final var fogFactor = mFogSprites ? getFogFactor(segment) : 0;
+			final var clipRow = (int) segment.clipSpaceY; // rows below the crest are hidden by nearer road
+
+			queueProps(segment, entityZ, fogFactor, clipRow);
+			queueEntities(segment, entityZ, fogFactor, clipRow);
+			queueProjectiles(segment, entityZ, fogFactor, clipRow);
+		}
+
+		queuePlayer();
+	}
+
+	private void queuePlayer() {
+		final var view = mView;
+
+		final var playerSegment = view.playerSegment;
+		final var playerPercent = GameWorld.segmentPercent(view.position + view.playerZ);
+
+		final var scale = InterpolationHelper.lerp(playerSegment.p0.screenScale(), playerSegment.p1.screenScale(), playerPercent);
+		final var segmentCurvature = InterpolationHelper.lerp(playerSegment.p0.curvature(), playerSegment.p1.curvature(), playerPercent);
+
+		final var playerFrame = GameTextureNames.PLAYER_MID;
+
+		final var playerW = (int) (mAtlas.frameW(playerFrame) * scale * mCanvasWidth / 2);
+		final var playerH = (int) (mAtlas.frameH(playerFrame) * scale * mCanvasHeight / 2);
+		final var playerX = (int) (segmentCurvature * mRenderScale) + (mCanvasWidth / 2 - playerW / 2);
+		final var playerY = (int) (view.playerAltitude * mRenderScale);
+		final var playerZ = playerSegment.p0.worldZ() - 20; // cheat a little
+
+		int col = 0xffafafaf;
+		if (view.playerFlash) {
+			col = 0xffffffff;
+		}
+
+		// @formatter:off
+		mSpriteQueue.add(
+				mAtlas.frameX(playerFrame), mAtlas.frameY(playerFrame), mAtlas.frameW(playerFrame), mAtlas.frameH(playerFrame), // src rect
+				playerX, playerY, playerW, playerH, // dest rect
+				playerZ, col, 0, 0, mAtlas.spans(playerFrame));
+		// @formatter:on
+
+		if (playerSegment.laneFill(view.playerLane)) {
+			final var floorHeight = (int) InterpolationHelper.lerp(playerSegment.p0.screenY(), playerSegment.p1.screenY(), playerPercent);
+
+			final var shadowScale = InterpolationHelper.lerp(1.5f, 0.15f, view.playerAltitude / (floorHeight / mRenderScale + 100)) * .5f;
+
+			// @formatter:off
+			mSpriteQueue.add(
+					mShadowSrcX, mShadowSrcY, mShadowSrcW, mShadowSrcH, // src rect
+					(int) (playerX + 32 * (1 - shadowScale) / 2 * mRenderScale), floorHeight, (int) (playerW * shadowScale), (int) (mShadowSrcH * shadowScale * mRenderScale), // dest rect
+					playerZ, 0xffffffff, 0, 0, mShadowSpans);
+			// @formatter:on
+		}
+
+	}
+
+	private void queueProps(TrackSegment segment, float entityZ, int fogFactor, int clipRow) {
+		if (segment.props.isEmpty())
+			return;
+
+		final var scale = InterpolationHelper.lerp(segment.p0.screenScale(), segment.p1.screenScale(), .5f);
+		final var floorHeight = (int) InterpolationHelper.lerp(segment.p0.screenY(), segment.p1.screenY(), .5f);
+
+		for (var prop = segment.props.first(); prop != null; prop = prop.next()) {
+			final var frame = prop.definition.spriteFrameUid;
+
+			final var destW = mAtlas.frameW(frame) * scale * mCanvasWidth / 2;
+			final var destH = mAtlas.frameH(frame) * scale * mCanvasHeight / 2;
+			final var destX = segment.p0.screenX() + (prop.xOffset * scale * ROAD_WIDTH * mCanvasWidth / 2) - destW / 2;
+			final var destY = segment.p0.screenY() + 15 * scale * mCanvasHeight;
+
+			// @formatter:off
+			mSpriteQueue.add(
+					mAtlas.frameX(frame), mAtlas.frameY(frame), mAtlas.frameW(frame), mAtlas.frameH(frame), // src rect
+					(int) destX, (int) destY, (int) destW, (int) destH, // dest rect
+					entityZ, 0xffcfcfcf, fogFactor, clipRow, mAtlas.spans(frame));
+
+			mSpriteQueue.add(
+					mShadowSrcX, mShadowSrcY, mShadowSrcW, mShadowSrcH, // src rect
+					(int) (destX), floorHeight, (int) (destW), (int) (mShadowSrcH * .5f * mRenderScale), // dest rect
+					entityZ, 0xffffffff, fogFactor, clipRow, mShadowSpans);
+			// @formatter:on
+		}
+	}
+
+	private void queueEntities(TrackSegment segment, float entityZ, int fogFactor, int clipRow) {
+		for (var entity = segment.entities.first(); entity != null; entity = entity.next()) {
+			final var def = entity.def;
+
+			final var entityPercent = GameWorld.segmentPercent(entity.zOffset);
+			final var scale = InterpolationHelper.lerp(segment.p0.screenScale(), segment.p1.screenScale(), entityPercent);
+			final var screenX = InterpolationHelper.lerp(segment.p0.screenX(), segment.p1.screenX(), entityPercent);
+			final var screenY = InterpolationHelper.lerp(segment.p0.screenY(), segment.p1.screenY(), entityPercent);
+
+			final var frame = def.spriteFrameUid;
+
+			final var destW = mAtlas.frameW(frame) * scale * mCanvasWidth / 2;
+			final var destH = mAtlas.frameH(frame) * scale * mCanvasHeight / 2;
+			final var destX = screenX + (entity.xOffset * scale * ROAD_WIDTH * mCanvasWidth / 2) - destW / 2;
+			final var destY = screenY + 15 * scale * mCanvasHeight;
+
+			int col = 0xffcfcfcf;
+			if (entity.hitCooldown > 0 && entity.isFlashing) {
+				col = 0xffffffff;
+			}
+
+			// @formatter:off
+			mSpriteQueue.add(
+					mAtlas.frameX(frame), mAtlas.frameY(frame), mAtlas.frameW(frame), mAtlas.frameH(frame), // src rect
+					(int) destX, (int) destY, (int) destW, (int) destH, // dest rect
+					entityZ, col, fogFactor, clipRow, mAtlas.spans(frame));
+
+			mSpriteQueue.add(
+					mShadowSrcX, mShadowSrcY, mShadowSrcW, mShadowSrcH, // src rect
+					(int) (destX), (int) screenY, (int) (destW), (int) (mShadowSrcH * .5f * mRenderScale), // dest rect
+					entityZ, 0xffffffff, fogFactor, clipRow, mShadowSpans);
+			// @formatter:on
+		}
+	}
+
+	private void queueProjectiles(TrackSegment segment, float entityZ, int fogFactor, int clipRow) {
+		for (var projectile = segment.projectiles.first(); projectile != null; projectile = projectile.next()) {
+			if (!projectile.isActive())
+				continue;
+
+			// drawn where it was between the last two ticks, which can still be back in the segment it came from
+			final var projZ = projectile.zOffset() - projectile.velocity() * (1 - mView.interpolation);
+			final var drawSegment = mView.interpolation < 1 ? mWorld.findSegment(projZ) : segment;
+
+			if (drawSegment == segment)
+				queueProjectile(projectile, segment, projZ, entityZ, fogFactor, clipRow);
+			else if (isDrawn(drawSegment))
+				queueProjectile(projectile, drawSegment, projZ, drawSegment.p0.worldZ() - 10, getFogFactor(drawSegment), (int) drawSegment.clipSpaceY);
+		}
+	}
+
+	private void queueProjectile(TrackProjectile projectile, TrackSegment segment, float projZ, float entityZ, int fogFactor, int clipRow) {
+		final var projPercent = GameWorld.segmentPercent(projZ);
+
+		final var scale = InterpolationHelper.lerp(segment.p0.screenScale(), segment.p1.screenScale(), projPercent);
+		final var screenX = InterpolationHelper.lerp(segment.p0.screenX(), segment.p1.screenX(), projPercent);
+		final var screenY = InterpolationHelper.lerp(segment.p0.screenY(), segment.p1.screenY(), projPercent);
+
+		final var frame = projectile.def().spriteFrameUid;
+
+		final var destW = mAtlas.frameW(frame) * scale * mCanvasWidth / 2;
+		final var destH = mAtlas.frameH(frame) * scale * mCanvasHeight / 2;
+		final var destX = screenX + (projectile.xOffset() * scale * ROAD_WIDTH * mCanvasWidth / 2) - destW / 2;
+		final var destY = screenY + 30 * scale * mCanvasHeight / 2;
+
+		// @formatter:off
+		mSpriteQueue.add(
+				mAtlas.frameX(frame), mAtlas.frameY(frame), mAtlas.frameW(frame), mAtlas.frameH(frame), // src rect
+				(int) destX, (int) destY, (int) destW, (int) destH, // dest rect
+				entityZ, 0xffcfcfcf, fogFactor, clipRow, mAtlas.spans(frame));
+		// @formatter:on
+	}
+
+	// true for the segments projected and not clipped this frame
+	private boolean isDrawn(TrackSegment segment) {
+		final var offset = Math.floorMod(segment.index - mView.cameraSegment.index, mWorld.numSegments());
+		return offset < mDrawDistance && !segment.isClipped;
+	}
+
+	private int getFogFactor(TrackSegment segment) {
+		return mFogTable.fogFactor((int) (segment.p0.worldZ() - mFogStartZ));
+	}
+}
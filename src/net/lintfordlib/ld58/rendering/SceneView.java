@@ -0,0 +1,117 @@
+package net.lintfordlib.ld58.rendering;
+
+import net.lintfordlib.core.maths.InterpolationHelper;
+import net.lintfordlib.core.maths.MathHelper;
+import net.lintfordlib.ld58.data.GameWorld;
+import net.lintfordlib.ld58.data.GameWorld.TrackSegment;
+import net.lintfordlib.ld58.data.SegmentCursor;
+
+// Camera and player state a frame is recorded from. The GameScreen copies it out of the game each frame, the headless
+// renderer drives it from a CameraScript. followTrack() is the camera rig both of them use. resolveSegments() looks up
+// the camera, player and camera target segments once, everything else reads them from here.
+public class SceneView {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final float FIELD_OF_VIEW = 140;
+	public static final float START_CAMERA_HEIGHT = 200;
+
+	private static final float CAMERA_TARGET_Z = 10;
+	private static final float MAX_YAW_HEIGHT = 50.f;
+	private static final float CAMERA_BASE_HEIGHT = 160;
+	private static final float CAMERA_PITCH_EXTENT = 150;
+	private static final float MAX_PITCH_EXTENT = .25f;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	// render resolution (see DynamicResolution)
+	public int level;
+	public int drawDistance = 200; // number of segments to draw
+	public float skyPhase;
+	public float interpolation = 1; // how far the frame is from the previous simulation tick (0) to the current one (1)
+
+	public float position; // camera Z position (add playerZ to get player's absolute Z position)
+	public float playerZ; // player relative z distance from camera
+	public float playerX; // player offset from center, in road widths
+	public int playerLane;
+	public float playerAltitude; // in logical (level 0) canvas rows
+	public boolean playerFlash;
+
+	public float cameraHeight;
+	public float cameraDepth; // computed (cam dist from screen)
+	public float cameraPitch;
+	public float cameraYaw;
+	public float cameraOffsetZ;
+
+	// segments of position, position + playerZ and the camera target, see resolveSegments()
+	public TrackSegment cameraSegment;
+	public TrackSegment playerSegment;
+	public TrackSegment targetSegment;
+
+	private final SegmentCursor mCameraCursor = new SegmentCursor();
+	private final SegmentCursor mPlayerCursor = new SegmentCursor();
+	private final SegmentCursor mTargetCursor = new SegmentCursor();
+
+	private final CameraTransform mFloorTransform = new CameraTransform();
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public void reset() {
+		position = 0;
+		playerX = 0;
+
+		cameraHeight = START_CAMERA_HEIGHT;
+		cameraDepth = 1f / (float) Math.tan(FIELD_OF_VIEW / 2 * Math.PI / 180);
+		cameraPitch = 0;
+		cameraYaw = 0;
+		cameraOffsetZ = 0;
+		playerZ = cameraHeight * cameraDepth;
+		interpolation = 1;
+	}
+
+	// raises and pitches the camera to look over the hill crest in front of the player
+	public void followTrack(GameWorld world) {
+		resolveSegments(world);
+
+		final var floorHeight = GameWorld.worldHeight(playerSegment, position + playerZ);
+		final var cameraTargetH = GameWorld.worldHeight(targetSegment, position + playerZ + CAMERA_TARGET_Z);
+
+		final var relYawHeight = (cameraTargetH - floorHeight);
+		final var maxYawAmt = -MathHelper.clamp(-relYawHeight / MAX_YAW_HEIGHT, -1.f, 1.f);
+
+		cameraPitch = MathHelper.clamp(maxYawAmt * MAX_PITCH_EXTENT, -2f, 0f);
+		cameraHeight = MathHelper.clamp(CAMERA_BASE_HEIGHT + -(maxYawAmt * CAMERA_PITCH_EXTENT), CAMERA_BASE_HEIGHT, 700f);
+		cameraOffsetZ = MathHelper.clamp(-maxYawAmt * 20, 0f, 20f);
+	}
+
+	// Screen row of the road under the player on a canvasWidth x canvasHeight canvas, projected from this view's camera
+	// the way SceneRecorder projects the track. Gameplay uses it at the logical (level 0) size, so the floor only
+	// depends on the simulation state and not on the interpolation or render resolution of the last frame.
+	public float floorRow(float canvasWidth, float canvasHeight) {
+		final var z = position + playerZ;
+		final var cameraY = GameWorld.worldHeight(playerSegment, z) + cameraHeight;
+
+		mFloorTransform.set(playerX * GameWorld.ROAD_WIDTH, cameraY, position + cameraOffsetZ, cameraPitch, cameraYaw, cameraDepth, canvasWidth, canvasHeight, GameWorld.ROAD_WIDTH);
+
+		final var p0 = playerSegment.p0;
+		final var p1 = playerSegment.p1;
+		final var row0 = mFloorTransform.projectY(p0.worldX(), p0.worldY(), p0.worldZ());
+		final var row1 = mFloorTransform.projectY(p1.worldX(), p1.worldY(), p1.worldZ());
+
+		// the road is drawn straight between the projected points, so the floor is too
+		return InterpolationHelper.lerp(row0, row1, GameWorld.segmentPercent(z));
+	}
+
+	// moves the segment cursors on to the current position, has to be called whenever position or playerZ changed
+	public void resolveSegments(GameWorld world) {
+		cameraSegment = world.findSegment(mCameraCursor, position);
+		playerSegment = world.findSegment(mPlayerCursor, position + playerZ);
+		targetSegment = world.findSegment(mTargetCursor, position + playerZ + CAMERA_TARGET_Z);
+	}
+}
@@ -0,0 +1,51 @@
+package net.lintfordlib.ld58.rendering;
+
+// The tint multiply and fog lerp of a sprite blit, folded into one multiply-add per channel:
+// channel = (texel * mul + add) >>> 16, with mul = (tint + 1) * (256 - fogFactor) and add = (fog * fogFactor) << 8.
+// A tint channel of 0xff and a fogFactor of 0 leave the texel unchanged. Set up once per blit for both PixelOps backends.
+public final class ShadeFactors {
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	public final int mulA;
+	public final int mulR;
+	public final int mulG;
+	public final int mulB;
+	public final int addA;
+	public final int addR;
+	public final int addG;
+	public final int addB;
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	// fogFactor: 0 (no fog) to 256 (fogColor only)
+	public ShadeFactors(int tint, int fogColor, int fogFactor) {
+		final var invFog = 256 - fogFactor;
+
+		mulA = ((tint >>> 24) + 1) * invFog;
+		mulR = (((tint >> 16) & 0xff) + 1) * invFog;
+		mulG = (((tint >> 8) & 0xff) + 1) * invFog;
+		mulB = ((tint & 0xff) + 1) * invFog;
+		addA = ((fogColor >>> 24) * fogFactor) << 8;
+		addR = (((fogColor >> 16) & 0xff) * fogFactor) << 8;
+		addG = (((fogColor >> 8) & 0xff) * fogFactor) << 8;
+		addB = ((fogColor & 0xff) * fogFactor) << 8;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public int shade(int texel) {
+		final var a = ((texel >>> 24) * mulA + addA) >>> 16;
+		final var r = (((texel >> 16) & 0xff) * mulR + addR) >>> 16;
+		final var g = (((texel >> 8) & 0xff) * mulG + addG) >>> 16;
+		final var b = ((texel & 0xff) * mulB + addB) >>> 16;
+
+		return (a << 24) | (r << 16) | (g << 8) | b;
+	}
+}
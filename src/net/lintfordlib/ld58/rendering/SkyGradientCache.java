@@ -0,0 +1,90 @@
+package net.lintfordlib.ld58.rendering;
+
+import java.util.Arrays;
+
+import net.lintfordlib.core.graphics.ColorHelper;
+
+// Caches the sky gradient row colors per quantized day phase. Each phase step builds its row color table once for the
+// canvas height, so drawing the sky is one Arrays.fill per row, also on the frames where the step changes.
+public class SkyGradientCache {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	// a day cycle takes about 24 s, so a step lasts about 190 ms. The colors move by a level or two per step.
+	public static final int PHASE_STEPS = 128;
+
+	private static final int DAY_TOP = 0x0087CEEB; // sky blue
+	private static final int DAY_MID = 0xFFBFBFBF; // light horizon
+	private static final int SUNSET_TOP = 0x002A2A72; // deep purple-blue
+	private static final int SUNSET_MID = 0xFFFF7E5F; // orange/pink
+	private static final int NIGHT_TOP = 0x00000022; // almost black-blue
+	private static final int NIGHT_MID = 0xFF220022; // dark purple
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	// per phase step, null until first drawn at the current height
+	private final int[][] mRowColors = new int[PHASE_STEPS][];
+	private int mHeight;
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public void draw(int[] buffer, int width, int height, float phase) {
+		final var phaseStep = Math.min((int) (phase * PHASE_STEPS), PHASE_STEPS - 1);
+
+		if (height != mHeight) {
+			Arrays.fill(mRowColors, null);
+			mHeight = height;
+		}
+
+		var rowColors = mRowColors[phaseStep];
+		if (rowColors == null)
+			rowColors = mRowColors[phaseStep] = buildRowColors(phaseStep, height);
+
+		// the buffer is bottom-up, so row 0 of the gradient (top color) goes into the last buffer row
+		for (int y = 0; y < height; y++) {
+			final var rowStart = (height - 1 - y) * width;
+			Arrays.fill(buffer, rowStart, rowStart + width, rowColors[y]);
+		}
+	}
+
+	private static int[] buildRowColors(int phaseStep, int height) {
+		final var phase = (float) phaseStep / PHASE_STEPS;
+
+		// Interpolate keyframes based on phase
+		int topColor, midColor;
+
+		if (phase < 0.33f) {
+			// Day → Sunset
+			float t = phase / 0.33f;
+			topColor = ColorHelper.lerpColor(DAY_TOP, SUNSET_TOP, t);
+			midColor = ColorHelper.lerpColor(DAY_MID, SUNSET_MID, t);
+		} else if (phase < 0.66f) {
+			// Sunset → Night
+			float t = (phase - 0.33f) / 0.33f;
+			topColor = ColorHelper.lerpColor(SUNSET_TOP, NIGHT_TOP, t);
+			midColor = ColorHelper.lerpColor(SUNSET_MID, NIGHT_MID, t);
+		} else {
+			// Night → Day
+			float t = (phase - 0.66f) / 0.34f;
+			topColor = ColorHelper.lerpColor(NIGHT_TOP, DAY_TOP, t);
+			midColor = ColorHelper.lerpColor(NIGHT_MID, DAY_MID, t);
+		}
+
+		// need to force top color to have 0x00 alpha
+		topColor = topColor & 0xccFFFFFF;
+
+		final var rowColors = new int[height];
+		for (int y = 0; y < height; y++) {
+			final var t = height > 1 ? (float) y / (height - 1) : 0.f;
+			rowColors[y] = ColorHelper.lerpColor(topColor, midColor, t);
+		}
+
+		return rowColors;
+	}
+}
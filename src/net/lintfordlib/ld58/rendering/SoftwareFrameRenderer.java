@@ -0,0 +1,60 @@
+package net.lintfordlib.ld58.rendering;
+
+// Rasterizes a recorded FramePacket (sky, track quads, then the sorted sprites) into a plain pixel array. Owns the
+// rasterizer and the render caches, so one instance must only be used from one thread at a time.
+public class SoftwareFrameRenderer {
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final SoftwareRasterizer mRasterizer = new SoftwareRasterizer();
+	private final BandRasterizer mBandRasterizer;
+	private final SkyGradientCache mSkyCache = new SkyGradientCache();
+	private final SpriteScaleCache mSpriteScaleCache;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public SpriteScaleCache spriteScaleCache() {
+		return mSpriteScaleCache;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public SoftwareFrameRenderer(boolean parallel, long spriteCacheBudgetBytes) {
+		mBandRasterizer = new BandRasterizer(mRasterizer, parallel);
+		mSpriteScaleCache = new SpriteScaleCache(spriteCacheBudgetBytes);
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	// pixels: bottom-up ARGB, at least packet.width * packet.height. Sorts packet.sprites and writes packet.renderNanos,
+	// everything else in the packet is only read.
+	public void render(FramePacket packet, int[] pixels) {
+		final var startNanos = System.nanoTime();
+
+		mRasterizer.bind(pixels, packet.width, packet.height);
+		mRasterizer.clearDepth();
+
+		// the sky covers the whole canvas, so the color buffer needs no clear
+		mSkyCache.draw(pixels, packet.width, packet.height, packet.skyPhase);
+
+		mRasterizer.enableDepth = true;
+		mBandRasterizer.rasterize(packet.quads);
+
+		packet.sprites.sort();
+		packet.sprites.submit(mRasterizer, mSpriteScaleCache, packet.atlasPixels, packet.atlasStride, packet.fogColor);
+
+		packet.renderNanos = System.nanoTime() - startNanos;
+	}
+
+	public void clearCaches() {
+		mSpriteScaleCache.clear();
+	}
+}
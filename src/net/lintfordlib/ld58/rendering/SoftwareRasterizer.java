@@ -0,0 +1,400 @@
+package net.lintfordlib.ld58.rendering;
+
+import java.util.Arrays;
+
+// Rasterizes into a bottom-up ARGB pixel array (i.e. the pixels of a FullScreenBuffer) with its own depth buffer.
+// None of the polygon and span methods hold state between calls, so different row bands can be drawn from different threads.
+// The scaled sprite blits gather into scratch rows of the rasterizer and must stay on one thread.
+public class SoftwareRasterizer {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final float DEPTH_CLEAR = Float.MAX_VALUE;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final PixelOps mOps = PixelOpsSelector.get();
+
+	private int[] mPixels;
+	private float[] mDepth;
+	private int mWidth;
+	private int mHeight;
+
+	// scratch rows of the scaled sprite blits
+	private int[] mSourceColumns = new int[0];
+	private int[] mSpanTexels = new int[0];
+
+	public boolean enableDepth = true;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int[] pixels() {
+		return mPixels;
+	}
+
+	public float[] depth() {
+		return mDepth;
+	}
+
+	public int width() {
+		return mWidth;
+	}
+
+	public int height() {
+		return mHeight;
+	}
+
+	public PixelOps pixelOps() {
+		return mOps;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public void bind(int[] pixels, int width, int height) {
+		mPixels = pixels;
+		mWidth = width;
+		mHeight = height;
+
+		// the depth buffer only grows, so switching between render resolutions doesn't reallocate
+		if (mDepth == null || mDepth.length < width * height)
+			mDepth = new float[width * height];
+	}
+
+	public void clearDepth() {
+		Arrays.fill(mDepth, 0, mWidth * mHeight, DEPTH_CLEAR);
+	}
+
+	// Fills a convex quad, sampling at pixel centers. Only rows in [rowStart, rowEnd) are touched.
+	// writeOnce: pixels already holding a depth value are left alone (used for front-to-back track drawing).
+	public void drawQuad(int x0, int y0, int x1, int y1, int x2, int y2, int x3, int y3, float z, int color, boolean writeOnce, boolean depthEqual, int rowStart, int rowEnd) {
+		final var minY = Math.min(Math.min(y0, y1), Math.min(y2, y3));
+		final var maxY = Math.max(Math.max(y0, y1), Math.max(y2, y3));
+
+		final var ys = Math.max(Math.max(minY, rowStart), 0);
+		final var ye = Math.min(Math.min(maxY, rowEnd), mHeight);
+
+		for (int y = ys; y < ye; y++) {
+			final var yc = y + .5f;
+
+			var xl = Float.MAX_VALUE;
+			var xr = -Float.MAX_VALUE;
+
+			var ex = edgeX(x0, y0, x1, y1, yc);
+			if (!Float.isNaN(ex)) {
+				xl = Math.min(xl, ex);
+				xr = Math.max(xr, ex);
+			}
+
+			ex = edgeX(x1, y1, x2, y2, yc);
+			if (!Float.isNaN(ex)) {
+				xl = Math.min(xl, ex);
+				xr = Math.max(xr, ex);
+			}
+
+			ex = edgeX(x2, y2, x3, y3, yc);
+			if (!Float.isNaN(ex)) {
+				xl = Math.min(xl, ex);
+				xr = Math.max(xr, ex);
+			}
+
+			ex = edgeX(x3, y3, x0, y0, yc);
+			if (!Float.isNaN(ex)) {
+				xl = Math.min(xl, ex);
+				xr = Math.max(xr, ex);
+			}
+
+			if (xl >= xr)
+				continue;
+
+			final var xs = Math.max((int) Math.ceil(xl - .5f), 0);
+			final var xe = Math.min((int) Math.ceil(xr - .5f), mWidth);
+
+			fillSpan(y, xs, xe, z, color, writeOnce, depthEqual);
+		}
+	}
+
+	// Fills the trapezoid between row y0 (spanning [xl0, xr0]) and row y1 (spanning [xl1, xr1]), with the same pixel center
+	// coverage as drawQuad on its four corners. Both side edges are stepped per row with an exact integer DDA: the first
+	// covered pixel of an edge is ceil(N / d), with N advancing by a constant each row and kept as quotient + remainder.
+	public void drawTrapezoid(int y0, int xl0, int xr0, int y1, int xl1, int xr1, float z, int color, boolean writeOnce, boolean depthEqual, int rowStart, int rowEnd) {
+		if (y0 == y1)
+			return;
+
+		if (y0 > y1) {
+			drawTrapezoid(y1, xl1, xr1, y0, xl0, xr0, z, color, writeOnce, depthEqual, rowStart, rowEnd);
+			return;
+		}
+
+		final var ys = Math.max(Math.max(y0, rowStart), 0);
+		final var ye = Math.min(Math.min(y1, rowEnd), mHeight);
+
+		if (ys >= ye)
+			return;
+
+		// edge x at the center of row y is x0 + dx * (y + .5 - y0) / h, so its first pixel is
+		// ceil((d * x0 + dx * (2 * (y - y0) + 1) - h) / d) with d = 2h
+		final long h = y1 - y0;
+		final long d = 2 * h;
+		final long dxl = xl1 - xl0;
+		final long dxr = xr1 - xr0;
+		final long rows = 2 * (ys - y0) + 1;
+
+		final var nl = d * xl0 + dxl * rows - h;
+		final var nr = d * xr0 + dxr * rows - h;
+
+		var ql = Math.floorDiv(nl, d);
+		var rl = nl - ql * d;
+		var qr = Math.floorDiv(nr, d);
+		var rr = nr - qr * d;
+
+		final var qlStep = Math.floorDiv(2 * dxl, d);
+		final var rlStep = 2 * dxl - qlStep * d;
+		final var qrStep = Math.floorDiv(2 * dxr, d);
+		final var rrStep = 2 * dxr - qrStep * d;
+
+		final var ops = mOps;
+		final var testDepth = enableDepth;
+
+		for (int y = ys; y < ye; y++) {
+			final var sl = (int) (rl != 0 ? ql + 1 : ql);
+			final var sr = (int) (rr != 0 ? qr + 1 : qr);
+
+			// crossing edges are filled between them like drawQuad does
+			final var xs = Math.max(Math.min(sl, sr), 0);
+			final var xe = Math.min(Math.max(sl, sr), mWidth);
+
+			// without depth test or write-once the backends store pixels and depth unconditionally
+			if (xs < xe)
+				ops.fillSpan(mPixels, mDepth, y * mWidth + xs, xe - xs, z, color, writeOnce, depthEqual, testDepth);
+
+			ql += qlStep;
+			rl += rlStep;
+			if (rl >= d) {
+				rl -= d;
+				ql++;
+			}
+
+			qr += qrStep;
+			rr += rrStep;
+			if (rr >= d) {
+				rr -= d;
+				qr++;
+			}
+		}
+	}
+
+	// Fills the column trapezoid with a near side from (xb0, yb0) up to (xt0, yt0) and a far side from (xb1, yb1) up to
+	// (xt1, yt1), i.e. a track wall whose sides may lean. Same pixel center coverage as drawQuad on its four corners, but
+	// the slope of every edge is set up once, so a row costs one multiply-add per edge instead of a division.
+	public void drawColumnTrapezoid(int xb0, int yb0, int xt0, int yt0, int xb1, int yb1, int xt1, int yt1, float z, int color, boolean writeOnce, boolean depthEqual, int rowStart, int rowEnd) {
+		final var ys = Math.max(Math.max(Math.min(Math.min(yb0, yb1), Math.min(yt0, yt1)), rowStart), 0);
+		final var ye = Math.min(Math.min(Math.max(Math.max(yb0, yb1), Math.max(yt0, yt1)), rowEnd), mHeight);
+
+		if (ys >= ye)
+			return;
+
+		// dx per row of the bottom, far, top and near edge, NaN for horizontal edges
+		final var bottomStep = edgeStep(xb0, yb0, xb1, yb1);
+		final var farStep = edgeStep(xb1, yb1, xt1, yt1);
+		final var topStep = edgeStep(xt1, yt1, xt0, yt0);
+		final var nearStep = edgeStep(xt0, yt0, xb0, yb0);
+
+		for (int y = ys; y < ye; y++) {
+			final var yc = y + .5f;
+
+			var xl = Float.MAX_VALUE;
+			var xr = -Float.MAX_VALUE;
+
+			var ex = steppedEdgeX(xb0, yb0, yb1, bottomStep, yc);
+			if (!Float.isNaN(ex)) {
+				xl = Math.min(xl, ex);
+				xr = Math.max(xr, ex);
+			}
+
+			ex = steppedEdgeX(xb1, yb1, yt1, farStep, yc);
+			if (!Float.isNaN(ex)) {
+				xl = Math.min(xl, ex);
+				xr = Math.max(xr, ex);
+			}
+
+			ex = steppedEdgeX(xt1, yt1, yt0, topStep, yc);
+			if (!Float.isNaN(ex)) {
+				xl = Math.min(xl, ex);
+				xr = Math.max(xr, ex);
+			}
+
+			ex = steppedEdgeX(xt0, yt0, yb0, nearStep, yc);
+			if (!Float.isNaN(ex)) {
+				xl = Math.min(xl, ex);
+				xr = Math.max(xr, ex);
+			}
+
+			if (xl >= xr)
+				continue;
+
+			final var xs = Math.max((int) Math.ceil(xl - .5f), 0);
+			final var xe = Math.min((int) Math.ceil(xr - .5f), mWidth);
+
+			fillSpan(y, xs, xe, z, color, writeOnce, depthEqual);
+		}
+	}
+
+	public void fillSpan(int y, int xs, int xe, float z, int color, boolean writeOnce, boolean depthEqual) {
+		mOps.fillSpan(mPixels, mDepth, y * mWidth + xs, xe - xs, z, color, writeOnce, depthEqual, enableDepth);
+	}
+
+	// Nearest-neighbour scaled copy from a (top-down) texture atlas into the (bottom-up) canvas. Fully transparent texels are skipped.
+	public void copyPixelsAtlas(int[] srcPixels, int srcX, int srcY, int srcW, int srcH, int srcStride, int dstX, int dstY, int dstW, int dstH, float z, int tint) {
+		copyPixelsAtlas(srcPixels, srcX, srcY, srcW, srcH, srcStride, dstX, dstY, dstW, dstH, z, tint, 0, 0);
+	}
+
+	// As above, but also blends the result towards fogColor by fogFactor (0-256). The tint and fog are folded into one
+	// multiply-add per channel up front (see ShadeFactors), so a fogged blit costs the same per pixel as a tinted one.
+	public void copyPixelsAtlas(int[] srcPixels, int srcX, int srcY, int srcW, int srcH, int srcStride, int dstX, int dstY, int dstW, int dstH, float z, int tint, int fogColor, int fogFactor) {
+		copyPixelsAtlas(srcPixels, srcX, srcY, srcW, srcH, srcStride, dstX, dstY, dstW, dstH, z, tint, fogColor, fogFactor, 0);
+	}
+
+	// As above, but rows below clipMinY are left untouched (e.g. the part of a sprite hidden behind a crest). The source
+	// mapping is unchanged, so the visible part of the sprite lands exactly where it would without the clip.
+	public void copyPixelsAtlas(int[] srcPixels, int srcX, int srcY, int srcW, int srcH, int srcStride, int dstX, int dstY, int dstW, int dstH, float z, int tint, int fogColor, int fogFactor, int clipMinY) {
+		if (srcW <= 0 || srcH <= 0 || dstW <= 0 || dstH <= 0)
+			return;
+
+		final var xs = Math.max(dstX, 0);
+		final var xe = Math.min(dstX + dstW, mWidth);
+		final var ys = Math.max(Math.max(dstY, clipMinY), 0);
+		final var ye = Math.min(dstY + dstH, mHeight);
+
+		if (xs >= xe || ys >= ye)
+			return;
+
+		final var shade = new ShadeFactors(tint, fogColor, fogFactor);
+		final var count = xe - xs;
+		final var columns = sourceColumns(xs, xe, dstX, srcX, srcW, dstW);
+		final var texels = spanTexels(count);
+
+		for (int y = ys; y < ye; y++) {
+			final var sy = srcY + srcH - 1 - ((y - dstY) * srcH) / dstH;
+			final var srcRow = sy * srcStride;
+
+			for (int i = 0; i < count; i++)
+				texels[i] = srcPixels[srcRow + columns[i]];
+
+			mOps.shadeSpan(texels, 0, mPixels, mDepth, y * mWidth + xs, count, z, shade, enableDepth);
+		}
+	}
+
+	// Scaled copy of an RLE-encoded atlas frame. Only the opaque runs of each source row are visited: a run [a, b) covers
+	// the destination columns whose nearest-neighbour source column falls inside it, so the result matches copyPixelsAtlas.
+	public void copyPixelsAtlas(int[] srcPixels, SpriteSpans spans, int srcStride, int dstX, int dstY, int dstW, int dstH, float z, int tint, int fogColor, int fogFactor, int clipMinY) {
+		final var srcW = spans.width;
+		final var srcH = spans.height;
+
+		if (srcW <= 0 || srcH <= 0 || dstW <= 0 || dstH <= 0)
+			return;
+
+		final var xs = Math.max(dstX, 0);
+		final var xe = Math.min(dstX + dstW, mWidth);
+		final var ys = Math.max(Math.max(dstY, clipMinY), 0);
+		final var ye = Math.min(dstY + dstH, mHeight);
+
+		if (xs >= xe || ys >= ye)
+			return;
+
+		final var shade = new ShadeFactors(tint, fogColor, fogFactor);
+		final var columns = sourceColumns(xs, xe, dstX, spans.srcX, srcW, dstW);
+		final var texels = spanTexels(xe - xs);
+		final var rowStart = spans.rowStart;
+		final var runs = spans.spans;
+
+		for (int y = ys; y < ye; y++) {
+			final var r = srcH - 1 - ((y - dstY) * srcH) / dstH;
+			final var srcRow = (spans.srcY + r) * srcStride;
+
+			final var runEnd = rowStart[r + 1];
+			for (int k = rowStart[r]; k < runEnd; k++) {
+				// first destination column mapping to a source column >= a (ceil division)
+				final var runXs = Math.max(dstX + (runs[k * 2] * dstW + srcW - 1) / srcW, xs);
+				final var runXe = Math.min(dstX + (runs[k * 2 + 1] * dstW + srcW - 1) / srcW, xe);
+				if (runXs >= runXe)
+					continue;
+
+				final var count = runXe - runXs;
+				final var column = runXs - xs;
+				for (int i = 0; i < count; i++)
+					texels[i] = srcPixels[srcRow + columns[column + i]];
+
+				mOps.shadeSpan(texels, 0, mPixels, mDepth, y * mWidth + runXs, count, z, shade, enableDepth);
+			}
+		}
+	}
+
+	// Unscaled copy of a top-down image (e.g. a SpriteScaleCache entry) with the same tint, fog, alpha and depth rules as
+	// copyPixelsAtlas. Rows below clipMinY are left untouched.
+	public void copyPixels(int[] srcPixels, int srcW, int srcH, int dstX, int dstY, float z, int tint, int fogColor, int fogFactor, int clipMinY) {
+		final var xs = Math.max(dstX, 0);
+		final var xe = Math.min(dstX + srcW, mWidth);
+		final var ys = Math.max(Math.max(dstY, clipMinY), 0);
+		final var ye = Math.min(dstY + srcH, mHeight);
+
+		if (xs >= xe || ys >= ye)
+			return;
+
+		final var shade = new ShadeFactors(tint, fogColor, fogFactor);
+		for (int y = ys; y < ye; y++) {
+			mOps.shadeSpan(srcPixels, (srcH - 1 - (y - dstY)) * srcW + (xs - dstX), mPixels, mDepth, y * mWidth + xs, xe - xs, z, shade, enableDepth);
+		}
+	}
+
+	// The nearest-neighbour source column (within the atlas row) of each destination column in [xs, xe), worked out once
+	// per blit so the row loops only gather.
+	private int[] sourceColumns(int xs, int xe, int dstX, int srcX, int srcW, int dstW) {
+		if (mSourceColumns.length < xe - xs)
+			mSourceColumns = new int[xe - xs];
+
+		final var columns = mSourceColumns;
+		for (int x = xs; x < xe; x++)
+			columns[x - xs] = srcX + ((x - dstX) * srcW) / dstW;
+
+		return columns;
+	}
+
+	private int[] spanTexels(int count) {
+		if (mSpanTexels.length < count)
+			mSpanTexels = new int[count];
+
+		return mSpanTexels;
+	}
+
+	// x step per row of the edge, or NaN if it is horizontal
+	private static float edgeStep(int ax, int ay, int bx, int by) {
+		return ay != by ? (bx - ax) / (float) (by - ay) : Float.NaN;
+	}
+
+	// as edgeX, with the slope from edgeStep
+	private static float steppedEdgeX(int ax, int ay, int by, float step, float yc) {
+		if (Float.isNaN(step) || yc < Math.min(ay, by) || yc > Math.max(ay, by))
+			return Float.NaN;
+
+		return ax + (yc - ay) * step;
+	}
+
+	// returns the x coord where the edge crosses the row center yc, or NaN if it doesn't
+	private static float edgeX(int ax, int ay, int bx, int by, float yc) {
+		if (ay == by)
+			return Float.NaN;
+
+		if (yc < Math.min(ay, by) || yc > Math.max(ay, by))
+			return Float.NaN;
+
+		return ax + (yc - ay) * (bx - ax) / (float) (by - ay);
+	}
+}
@@ -0,0 +1,82 @@
+package net.lintfordlib.ld58.rendering;
+
+import java.util.Arrays;
+
+// The atlas pixels and frame rects used by the software renderer, indexed by sprite frame uid (see GameTextureNames).
+// Filled from the loaded sprite sheet in game, or straight from the png/json files by the headless renderer.
+public class SpriteAtlas {
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final int[] mPixels;
+	private final int mStride;
+
+	// x, y, w, h per frame uid
+	private int[] mRects = new int[0];
+	private SpriteSpans[] mSpans = new SpriteSpans[0];
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	// top-down ARGB
+	public int[] pixels() {
+		return mPixels;
+	}
+
+	public int stride() {
+		return mStride;
+	}
+
+	public int frameX(int uid) {
+		return mRects[uid * 4];
+	}
+
+	public int frameY(int uid) {
+		return mRects[uid * 4 + 1];
+	}
+
+	public int frameW(int uid) {
+		return mRects[uid * 4 + 2];
+	}
+
+	public int frameH(int uid) {
+		return mRects[uid * 4 + 3];
+	}
+
+	// RLE encoding of the frame, or null for frames that were never added
+	public SpriteSpans spans(int uid) {
+		if (uid < 0 || uid >= mSpans.length)
+			return null;
+
+		return mSpans[uid];
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public SpriteAtlas(int[] pixels, int stride) {
+		mPixels = pixels;
+		mStride = stride;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public void addFrame(int uid, int x, int y, int w, int h) {
+		if (uid * 4 + 4 > mRects.length) {
+			mRects = Arrays.copyOf(mRects, uid * 4 + 4);
+			mSpans = Arrays.copyOf(mSpans, uid + 1);
+		}
+
+		mRects[uid * 4] = x;
+		mRects[uid * 4 + 1] = y;
+		mRects[uid * 4 + 2] = w;
+		mRects[uid * 4 + 3] = h;
+		mSpans[uid] = SpriteSpans.encode(mPixels, mStride, x, y, w, h);
+	}
+}
@@ -0,0 +1,217 @@
+package net.lintfordlib.ld58.rendering;
+
+import java.util.Arrays;
+
+// Per-frame queue of atlas blits. Sprites are collected in any order, sorted front to back on their depth with a stable
+// LSD radix sort (no allocations once the arrays have grown to the busiest frame) and then submitted in one pass.
+// Sprites sharing a depth keep their submission order, so the depth test resolves them exactly as before.
+// Every sprite carries a clip row: rows below it are hidden behind the road crest and are never blitted.
+public class SpriteQueue {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	private static final int INITIAL_CAPACITY = 256;
+	private static final int RADIX_BITS = 8;
+	private static final int RADIX_SIZE = 1 << RADIX_BITS;
+	private static final int RADIX_MASK = RADIX_SIZE - 1;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	int[] srcRects = new int[INITIAL_CAPACITY * 4];
+	int[] dstRects = new int[INITIAL_CAPACITY * 4];
+	float[] depths = new float[INITIAL_CAPACITY];
+	int[] tints = new int[INITIAL_CAPACITY];
+	int[] fogFactors = new int[INITIAL_CAPACITY];
+	int[] clipRows = new int[INITIAL_CAPACITY];
+	SpriteSpans[] spans = new SpriteSpans[INITIAL_CAPACITY];
+
+	private int[] mKeys = new int[INITIAL_CAPACITY];
+	private int[] mKeysTemp = new int[INITIAL_CAPACITY];
+	private int[] mOrder = new int[INITIAL_CAPACITY];
+	private int[] mOrderTemp = new int[INITIAL_CAPACITY];
+	private final int[] mCounts = new int[RADIX_SIZE];
+
+	private int mCount;
+	private int mNumCulled;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int count() {
+		return mCount;
+	}
+
+	// number of sprites rejected this frame because they were fully below their clip row
+	public int numCulled() {
+		return mNumCulled;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public void clear() {
+		// drop the span references so the queue doesn't pin old frames
+		Arrays.fill(spans, 0, mCount, null);
+
+		mCount = 0;
+		mNumCulled = 0;
+	}
+
+	public void add(int srcX, int srcY, int srcW, int srcH, int dstX, int dstY, int dstW, int dstH, float z, int tint, int fogFactor, int clipRow) {
+		add(srcX, srcY, srcW, srcH, dstX, dstY, dstW, dstH, z, tint, fogFactor, clipRow, null);
+	}
+
+	// frameSpans (optional) is the RLE encoding of the source rect, used to skip transparent texels
+	public void add(int srcX, int srcY, int srcW, int srcH, int dstX, int dstY, int dstW, int dstH, float z, int tint, int fogFactor, int clipRow, SpriteSpans frameSpans) {
+		if (dstW <= 0 || dstH <= 0)
+			return;
+
+		if (dstY + dstH <= clipRow) {
+			mNumCulled++;
+			return;
+		}
+
+		if (mCount == depths.length)
+			grow();
+
+		final var i = mCount++;
+		final var r = i * 4;
+
+		srcRects[r + 0] = srcX;
+		srcRects[r + 1] = srcY;
+		srcRects[r + 2] = srcW;
+		srcRects[r + 3] = srcH;
+
+		dstRects[r + 0] = dstX;
+		dstRects[r + 1] = dstY;
+		dstRects[r + 2] = dstW;
+		dstRects[r + 3] = dstH;
+
+		depths[i] = z;
+		tints[i] = tint;
+		fogFactors[i] = fogFactor;
+		clipRows[i] = clipRow;
+		spans[i] = frameSpans != null && frameSpans.matches(srcX, srcY, srcW, srcH) ? frameSpans : null;
+	}
+
+	// sorts the queue front to back (ascending depth)
+	public void sort() {
+		final var count = mCount;
+
+		for (int i = 0; i < count; i++) {
+			mKeys[i] = sortableKey(depths[i]);
+			mOrder[i] = i;
+		}
+
+		var keys = mKeys;
+		var keysTemp = mKeysTemp;
+		var order = mOrder;
+		var orderTemp = mOrderTemp;
+
+		for (int shift = 0; shift < 32; shift += RADIX_BITS) {
+			Arrays.fill(mCounts, 0);
+
+			for (int i = 0; i < count; i++)
+				mCounts[(keys[i] >>> shift) & RADIX_MASK]++;
+
+			// skip passes where every key falls into the same bucket
+			if (mCounts[(keys[0] >>> shift) & RADIX_MASK] == count)
+				continue;
+
+			var offset = 0;
+			for (int b = 0; b < RADIX_SIZE; b++) {
+				final var c = mCounts[b];
+				mCounts[b] = offset;
+				offset += c;
+			}
+
+			for (int i = 0; i < count; i++) {
+				final var dst = mCounts[(keys[i] >>> shift) & RADIX_MASK]++;
+				keysTemp[dst] = keys[i];
+				orderTemp[dst] = order[i];
+			}
+
+			final var k = keys;
+			keys = keysTemp;
+			keysTemp = k;
+
+			final var o = order;
+			order = orderTemp;
+			orderTemp = o;
+		}
+
+		mKeys = keys;
+		mKeysTemp = keysTemp;
+		mOrder = order;
+		mOrderTemp = orderTemp;
+	}
+
+	public void submit(SoftwareRasterizer rasterizer, int[] srcPixels, int srcStride, int fogColor) {
+		submit(rasterizer, null, srcPixels, srcStride, fogColor);
+	}
+
+	// as above, but sprites small enough for the scale cache are blitted from their pre-scaled copy: unscaled when the
+	// size falls on a bucket, otherwise by at most 1/16 octave from the nearest one
+	public void submit(SoftwareRasterizer rasterizer, SpriteScaleCache scaleCache, int[] srcPixels, int srcStride, int fogColor) {
+		for (int i = 0; i < mCount; i++) {
+			final var s = mOrder[i];
+			final var r = s * 4;
+
+			if (scaleCache != null && scaleCache.canCache(srcRects[r + 0], srcRects[r + 1], srcRects[r + 2], srcRects[r + 3], dstRects[r + 2], dstRects[r + 3])) {
+				final var dstW = dstRects[r + 2];
+				final var dstH = dstRects[r + 3];
+				final var bucketW = SpriteScaleCache.bucketSize(dstW);
+				final var bucketH = SpriteScaleCache.bucketSize(dstH);
+				final var scaled = scaleCache.get(srcPixels, srcRects[r + 0], srcRects[r + 1], srcRects[r + 2], srcRects[r + 3], srcStride, bucketW, bucketH);
+
+				if (bucketW == dstW && bucketH == dstH)
+					rasterizer.copyPixels(scaled, dstW, dstH, dstRects[r + 0], dstRects[r + 1], depths[s], tints[s], fogColor, fogFactors[s], clipRows[s]);
+				else
+					rasterizer.copyPixelsAtlas(scaled, 0, 0, bucketW, bucketH, bucketW, dstRects[r + 0], dstRects[r + 1], dstW, dstH, depths[s], tints[s], fogColor, fogFactors[s], clipRows[s]);
+
+				continue;
+			}
+
+			if (spans[s] != null) {
+				rasterizer.copyPixelsAtlas(srcPixels, spans[s], srcStride, dstRects[r + 0], dstRects[r + 1], dstRects[r + 2], dstRects[r + 3], depths[s], tints[s], fogColor, fogFactors[s], clipRows[s]);
+				continue;
+			}
+
+			// @formatter:off
+			rasterizer.copyPixelsAtlas(srcPixels,
+					srcRects[r + 0], srcRects[r + 1], srcRects[r + 2], srcRects[r + 3], srcStride,
+					dstRects[r + 0], dstRects[r + 1], dstRects[r + 2], dstRects[r + 3],
+					depths[s], tints[s], fogColor, fogFactors[s], clipRows[s]);
+			// @formatter:on
+		}
+	}
+
+	// maps the float bit pattern to an int that sorts unsigned in the same order as the floats
+	private static int sortableKey(float z) {
+		final var bits = Float.floatToRawIntBits(z);
+		return bits < 0 ? ~bits : bits ^ 0x80000000;
+	}
+
+	private void grow() {
+		final var newCapacity = depths.length * 2;
+
+		srcRects = Arrays.copyOf(srcRects, newCapacity * 4);
+		dstRects = Arrays.copyOf(dstRects, newCapacity * 4);
+		depths = Arrays.copyOf(depths, newCapacity);
+		tints = Arrays.copyOf(tints, newCapacity);
+		fogFactors = Arrays.copyOf(fogFactors, newCapacity);
+		clipRows = Arrays.copyOf(clipRows, newCapacity);
+		spans = Arrays.copyOf(spans, newCapacity);
+
+		mKeys = new int[newCapacity];
+		mKeysTemp = new int[newCapacity];
+		mOrder = new int[newCapacity];
+		mOrderTemp = new int[newCapacity];
+	}
+}
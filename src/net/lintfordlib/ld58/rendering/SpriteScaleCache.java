@@ -0,0 +1,309 @@
+package net.lintfordlib.ld58.rendering;
+
+import java.util.Arrays;
+
+// LRU cache of atlas frames pre-scaled to a quantized destination size. Sizes above 16 pixels are bucketed in 1/8
+// octave steps (see bucketSize), so a sprite growing towards the camera reuses one copy for several frames and is blitted from it
+// almost unscaled. A cached copy is stored top-down like the atlas, so it can be blitted as a small atlas of its own.
+// The entries live in an open-addressing table keyed on a packed long, with the LRU order kept as links between the
+// slots, so lookups neither box nor allocate. Entries are evicted least-recently-used once the memory budget is exceeded.
+public class SpriteScaleCache {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	// larger sprites are close to the camera, change size every frame and are not worth caching
+	public static final int MAX_CACHED_DIMENSION = 128;
+
+	// buckets per octave of destination size
+	private static final int BUCKETS_PER_OCTAVE = 8;
+
+	private static final int BITS_POSITION = 12;
+	private static final int BITS_SIZE = 10;
+
+	private static final long EMPTY = -1L;
+	private static final int NIL = -1;
+	private static final int INITIAL_CAPACITY = 64;
+
+	// below this the buckets would be less than a pixel apart, so small sizes are cached exactly
+	private static final int MIN_BUCKETED_DIMENSION = 16;
+
+	private static final int[] BUCKET_SIZES = new int[MAX_CACHED_DIMENSION + 1];
+
+	static {
+		final var step = Math.pow(2, 1. / BUCKETS_PER_OCTAVE);
+		var lower = MIN_BUCKETED_DIMENSION;
+		var upper = MIN_BUCKETED_DIMENSION;
+		var scale = 1.;
+		for (int size = 1; size <= MAX_CACHED_DIMENSION; size++) {
+			if (size <= MIN_BUCKETED_DIMENSION) {
+				BUCKET_SIZES[size] = size;
+				continue;
+			}
+
+			while (size > upper) {
+				lower = upper;
+				scale *= step;
+				upper = (int) Math.min(Math.round(MIN_BUCKETED_DIMENSION * scale), MAX_CACHED_DIMENSION);
+			}
+
+			// nearest bucket by ratio
+			BUCKET_SIZES[size] = (long) size * size <= (long) lower * upper ? lower : upper;
+		}
+	}
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private long[] mKeys;
+	private int[][] mValues;
+	private int[] mOlder;
+	private int[] mNewer;
+	private int mOldest = NIL;
+	private int mNewest = NIL;
+	private int mSize;
+
+	private final long mBudgetBytes;
+	private long mUsedBytes;
+	private int[] mAtlasPixels;
+
+	private int mNumHits;
+	private int mNumMisses;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public long usedBytes() {
+		return mUsedBytes;
+	}
+
+	public int numEntries() {
+		return mSize;
+	}
+
+	public int numHits() {
+		return mNumHits;
+	}
+
+	public int numMisses() {
+		return mNumMisses;
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	public SpriteScaleCache(long budgetBytes) {
+		mBudgetBytes = budgetBytes;
+		allocate(INITIAL_CAPACITY);
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	// the size (1 to MAX_CACHED_DIMENSION) a sprite dimension is cached at, at most 6% away from it
+	public static int bucketSize(int size) {
+		return BUCKET_SIZES[size];
+	}
+
+	public void clear() {
+		Arrays.fill(mKeys, EMPTY);
+		Arrays.fill(mValues, null);
+		mOldest = NIL;
+		mNewest = NIL;
+		mSize = 0;
+		mUsedBytes = 0;
+	}
+
+	public void resetStats() {
+		mNumHits = 0;
+		mNumMisses = 0;
+	}
+
+	public boolean canCache(int srcX, int srcY, int srcW, int srcH, int dstW, int dstH) {
+		// @formatter:off
+		return dstW <= MAX_CACHED_DIMENSION && dstH <= MAX_CACHED_DIMENSION
+				&& srcW < (1 << BITS_SIZE) && srcH < (1 << BITS_SIZE)
+				&& srcX < (1 << BITS_POSITION) && srcY < (1 << BITS_POSITION)
+				&& srcW > 0 && srcH > 0 && srcX >= 0 && srcY >= 0 && dstW > 0 && dstH > 0;
+		// @formatter:on
+	}
+
+	// returns the frame scaled to bucketW x bucketH (top-down, bucketW pixels per row), with the same nearest-neighbour
+	// mapping as SoftwareRasterizer.copyPixelsAtlas. bucketW/bucketH come from bucketSize(); only valid when canCache() is true.
+	public int[] get(int[] atlasPixels, int srcX, int srcY, int srcW, int srcH, int srcStride, int bucketW, int bucketH) {
+		if (atlasPixels != mAtlasPixels) {
+			clear();
+			mAtlasPixels = atlasPixels;
+		}
+
+		final var key = key(srcX, srcY, srcW, srcH, bucketW, bucketH);
+		final var slot = find(key);
+		if (slot != NIL) {
+			mNumHits++;
+			unlink(slot);
+			linkNewest(slot);
+			return mValues[slot];
+		}
+
+		mNumMisses++;
+
+		final var scaled = new int[bucketW * bucketH];
+		for (int y = 0; y < bucketH; y++) {
+			final var srcRow = (srcY + (y * srcH) / bucketH) * srcStride;
+			final var dstRow = y * bucketW;
+			for (int x = 0; x < bucketW; x++) {
+				scaled[dstRow + x] = atlasPixels[srcRow + srcX + (x * srcW) / bucketW];
+			}
+		}
+
+		insert(key, scaled);
+		mUsedBytes += scaled.length * 4L;
+
+		evict();
+		return scaled;
+	}
+
+	private void evict() {
+		while (mUsedBytes > mBudgetBytes && mOldest != NIL) {
+			mUsedBytes -= mValues[mOldest].length * 4L;
+			remove(mOldest);
+		}
+	}
+
+	private void allocate(int capacity) {
+		mKeys = new long[capacity];
+		mValues = new int[capacity][];
+		mOlder = new int[capacity];
+		mNewer = new int[capacity];
+		Arrays.fill(mKeys, EMPTY);
+	}
+
+	private int find(long key) {
+		final var mask = mKeys.length - 1;
+		for (int slot = home(key, mask);; slot = (slot + 1) & mask) {
+			final var k = mKeys[slot];
+			if (k == key)
+				return slot;
+
+			if (k == EMPTY)
+				return NIL;
+		}
+	}
+
+	// key must not be in the table yet
+	private void insert(long key, int[] value) {
+		if ((mSize + 1) * 2 > mKeys.length)
+			grow();
+
+		final var mask = mKeys.length - 1;
+		var slot = home(key, mask);
+		while (mKeys[slot] != EMPTY)
+			slot = (slot + 1) & mask;
+
+		mKeys[slot] = key;
+		mValues[slot] = value;
+		mSize++;
+		linkNewest(slot);
+	}
+
+	// backward-shift deletion: entries further along the probe chain move up into the hole, so no tombstones are needed
+	private void remove(int slot) {
+		unlink(slot);
+		mSize--;
+
+		final var mask = mKeys.length - 1;
+		var hole = slot;
+		for (int j = (slot + 1) & mask; mKeys[j] != EMPTY; j = (j + 1) & mask) {
+			final var home = home(mKeys[j], mask);
+			if (((j - home) & mask) >= ((j - hole) & mask)) {
+				move(j, hole);
+				hole = j;
+			}
+		}
+
+		mKeys[hole] = EMPTY;
+		mValues[hole] = null;
+	}
+
+	private void move(int from, int to) {
+		mKeys[to] = mKeys[from];
+		mValues[to] = mValues[from];
+
+		final var older = mOlder[from];
+		final var newer = mNewer[from];
+		mOlder[to] = older;
+		mNewer[to] = newer;
+
+		if (older != NIL)
+			mNewer[older] = to;
+		else
+			mOldest = to;
+
+		if (newer != NIL)
+			mOlder[newer] = to;
+		else
+			mNewest = to;
+	}
+
+	// rehashes into twice the capacity, re-inserting oldest first to keep the LRU order
+	private void grow() {
+		final var keys = mKeys;
+		final var values = mValues;
+		final var newer = mNewer;
+		final var oldest = mOldest;
+
+		allocate(keys.length * 2);
+		mOldest = NIL;
+		mNewest = NIL;
+		mSize = 0;
+
+		for (int slot = oldest; slot != NIL; slot = newer[slot])
+			insert(keys[slot], values[slot]);
+	}
+
+	private void linkNewest(int slot) {
+		mOlder[slot] = mNewest;
+		mNewer[slot] = NIL;
+
+		if (mNewest != NIL)
+			mNewer[mNewest] = slot;
+		else
+			mOldest = slot;
+
+		mNewest = slot;
+	}
+
+	private void unlink(int slot) {
+		final var older = mOlder[slot];
+		final var newer = mNewer[slot];
+
+		if (older != NIL)
+			mNewer[older] = newer;
+		else
+			mOldest = newer;
+
+		if (newer != NIL)
+			mOlder[newer] = older;
+		else
+			mNewest = older;
+	}
+
+	private static int home(long key, int mask) {
+		return (int) ((key * 0x9E3779B97F4A7C15L) >>> 32) & mask;
+	}
+
+	private static long key(int srcX, int srcY, int srcW, int srcH, int bucketW, int bucketH) {
+		var key = (long) srcX;
+		key = (key << BITS_POSITION) | srcY;
+		key = (key << BITS_SIZE) | srcW;
+		key = (key << BITS_SIZE) | srcH;
+		key = (key << 8) | bucketW;
+		key = (key << 8) | bucketH;
+		return key;
+	}
+}
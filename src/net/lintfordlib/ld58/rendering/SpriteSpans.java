@@ -0,0 +1,84 @@
+package net.lintfordlib.ld58.rendering;
+
+import java.util.Arrays;
+
+// Run-length encoding of the opaque texels of one atlas frame. Each (top-down) frame row stores a list of [start, end)
+// runs of texels with a non-zero alpha, relative to the frame origin, so a blit can jump over the transparent parts.
+public class SpriteSpans {
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	public final int srcX;
+	public final int srcY;
+	public final int width;
+	public final int height;
+
+	// runs of row r are spans[rowStart[r] * 2 .. rowStart[r + 1] * 2)
+	final int[] rowStart;
+	final int[] spans;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int numSpans() {
+		return rowStart[height];
+	}
+
+	// --------------------------------------
+	// Constructor
+	// --------------------------------------
+
+	private SpriteSpans(int srcX, int srcY, int width, int height, int[] rowStart, int[] spans) {
+		this.srcX = srcX;
+		this.srcY = srcY;
+		this.width = width;
+		this.height = height;
+		this.rowStart = rowStart;
+		this.spans = spans;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public boolean matches(int x, int y, int w, int h) {
+		return x == srcX && y == srcY && w == width && h == height;
+	}
+
+	public static SpriteSpans encode(int[] atlasPixels, int atlasStride, int srcX, int srcY, int srcW, int srcH) {
+		final var rowStart = new int[srcH + 1];
+		var spans = new int[Math.max(srcH, 1) * 4];
+		var numSpans = 0;
+
+		for (int r = 0; r < srcH; r++) {
+			rowStart[r] = numSpans;
+
+			final var row = (srcY + r) * atlasStride + srcX;
+			var x = 0;
+			while (x < srcW) {
+				while (x < srcW && (atlasPixels[row + x] >>> 24) == 0)
+					x++;
+
+				if (x == srcW)
+					break;
+
+				final var start = x;
+				while (x < srcW && (atlasPixels[row + x] >>> 24) != 0)
+					x++;
+
+				if ((numSpans + 1) * 2 > spans.length)
+					spans = Arrays.copyOf(spans, spans.length * 2);
+
+				spans[numSpans * 2] = start;
+				spans[numSpans * 2 + 1] = x;
+				numSpans++;
+			}
+		}
+
+		rowStart[srcH] = numSpans;
+		return new SpriteSpans(srcX, srcY, srcW, srcH, rowStart, Arrays.copyOf(spans, numSpans * 2));
+	}
+}
@@ -0,0 +1,152 @@
+package net.lintfordlib.ld58.rendering;
+
+import java.util.Arrays;
+
+// Per-frame list of projected track quads, trapezoids, column trapezoids and single-row spans, in submission (front to
+// back) order.
+public class TrackQuadList {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	public static final int FLAG_WRITE_ONCE = 1;
+	public static final int FLAG_DEPTH_EQUAL = 2;
+	public static final int FLAG_SPAN = 4;
+	public static final int FLAG_TRAPEZOID = 8;
+	public static final int FLAG_COLUMN_TRAPEZOID = 16;
+
+	private static final int INITIAL_CAPACITY = 2048;
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	int[] coords = new int[INITIAL_CAPACITY * 8];
+	int[] minY = new int[INITIAL_CAPACITY];
+	int[] maxY = new int[INITIAL_CAPACITY];
+	float[] depths = new float[INITIAL_CAPACITY];
+	int[] colors = new int[INITIAL_CAPACITY];
+	int[] flags = new int[INITIAL_CAPACITY];
+
+	private int mCount;
+
+	// --------------------------------------
+	// Properties
+	// --------------------------------------
+
+	public int count() {
+		return mCount;
+	}
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	public void clear() {
+		mCount = 0;
+	}
+
+	public void add(int x0, int y0, int x1, int y1, int x2, int y2, int x3, int y3, float z, int color, int quadFlags) {
+		if (mCount == colors.length)
+			grow();
+
+		final var i = mCount++;
+		final var c = i * 8;
+
+		coords[c + 0] = x0;
+		coords[c + 1] = y0;
+		coords[c + 2] = x1;
+		coords[c + 3] = y1;
+		coords[c + 4] = x2;
+		coords[c + 5] = y2;
+		coords[c + 6] = x3;
+		coords[c + 7] = y3;
+
+		minY[i] = Math.min(Math.min(y0, y1), Math.min(y2, y3));
+		maxY[i] = Math.max(Math.max(y0, y1), Math.max(y2, y3));
+		depths[i] = z;
+		colors[i] = color;
+		flags[i] = quadFlags;
+	}
+
+	// a horizontal run [xs, xe) on row y. Stored in the first three coords of the quad slot.
+	public void addSpan(int y, int xs, int xe, float z, int color, int spanFlags) {
+		if (xs >= xe)
+			return;
+
+		if (mCount == colors.length)
+			grow();
+
+		final var i = mCount++;
+		final var c = i * 8;
+
+		coords[c + 0] = xs;
+		coords[c + 1] = y;
+		coords[c + 2] = xe;
+
+		minY[i] = y;
+		maxY[i] = y + 1;
+		depths[i] = z;
+		colors[i] = color;
+		flags[i] = spanFlags | FLAG_SPAN;
+	}
+
+	// a quad whose top and bottom edges are horizontal: [xl0, xr0] on row y0 and [xl1, xr1] on row y1. Stored in the
+	// first six coords of the quad slot.
+	public void addTrapezoid(int y0, int xl0, int xr0, int y1, int xl1, int xr1, float z, int color, int trapezoidFlags) {
+		if (mCount == colors.length)
+			grow();
+
+		final var i = mCount++;
+		final var c = i * 8;
+
+		coords[c + 0] = y0;
+		coords[c + 1] = xl0;
+		coords[c + 2] = xr0;
+		coords[c + 3] = y1;
+		coords[c + 4] = xl1;
+		coords[c + 5] = xr1;
+
+		minY[i] = Math.min(y0, y1);
+		maxY[i] = Math.max(y0, y1);
+		depths[i] = z;
+		colors[i] = color;
+		flags[i] = trapezoidFlags | FLAG_TRAPEZOID;
+	}
+
+	// a wall-like quad with a near side from (xb0, yb0) up to (xt0, yt0) and a far side from (xb1, yb1) up to (xt1, yt1)
+	public void addColumnTrapezoid(int xb0, int yb0, int xt0, int yt0, int xb1, int yb1, int xt1, int yt1, float z, int color, int trapezoidFlags) {
+		if (mCount == colors.length)
+			grow();
+
+		final var i = mCount++;
+		final var c = i * 8;
+
+		coords[c + 0] = xb0;
+		coords[c + 1] = yb0;
+		coords[c + 2] = xt0;
+		coords[c + 3] = yt0;
+		coords[c + 4] = xb1;
+		coords[c + 5] = yb1;
+		coords[c + 6] = xt1;
+		coords[c + 7] = yt1;
+
+		minY[i] = Math.min(Math.min(yb0, yb1), Math.min(yt0, yt1));
+		maxY[i] = Math.max(Math.max(yb0, yb1), Math.max(yt0, yt1));
+		depths[i] = z;
+		colors[i] = color;
+		flags[i] = trapezoidFlags | FLAG_COLUMN_TRAPEZOID;
+	}
+
+	private void grow() {
+		final var newCapacity = colors.length * 2;
+
+		coords = Arrays.copyOf(coords, newCapacity * 8);
+		minY = Arrays.copyOf(minY, newCapacity);
+		maxY = Arrays.copyOf(maxY, newCapacity);
+		depths = Arrays.copyOf(depths, newCapacity);
+		colors = Arrays.copyOf(colors, newCapacity);
+		flags = Arrays.copyOf(flags, newCapacity);
+	}
+}
@@ -0,0 +1,125 @@
+package net.lintfordlib.ld58.rendering;
+
+import jdk.incubator.vector.FloatVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+// SIMD version of ScalarPixelOps on the jdk.incubator.vector API. The depth and alpha tests become lane masks and the
+// results are blended into the loaded destination under the mask, so every lane ends up exactly as the scalar loop
+// would leave it (a blend + full store is much cheaper than a masked store on current JDKs). The tail
+// that doesn't fill a whole register is handed to the scalar implementation.
+// Only load this through PixelOpsSelector, it needs the jdk.incubator.vector module (--add-modules).
+public class VectorPixelOps implements PixelOps {
+
+	// --------------------------------------
+	// Constants
+	// --------------------------------------
+
+	private static final VectorSpecies<Float> FLOAT_SPECIES = FloatVector.SPECIES_PREFERRED;
+	private static final VectorSpecies<Integer> INT_SPECIES = VectorSpecies.of(int.class, FLOAT_SPECIES.vectorShape());
+
+	// --------------------------------------
+	// Variables
+	// --------------------------------------
+
+	private final ScalarPixelOps mScalar = new ScalarPixelOps();
+
+	// --------------------------------------
+	// Methods
+	// --------------------------------------
+
+	@Override
+	public String name() {
+		return "vector (" + INT_SPECIES.length() + " lanes)";
+	}
+
+	@Override
+	public void fillSpan(int[] pixels, float[] depth, int index, int count, float z, int color, boolean writeOnce, boolean depthEqual, boolean testDepth) {
+		// clipped spans can come in empty or inverted, which the scalar loops treat as a no-op
+		if (count <= 0)
+			return;
+
+		final var lanes = INT_SPECIES.length();
+		final var upper = INT_SPECIES.loopBound(count);
+
+		final var colors = IntVector.broadcast(INT_SPECIES, color);
+		final var depths = FloatVector.broadcast(FLOAT_SPECIES, z);
+
+		if (!writeOnce && !testDepth) {
+			for (int i = 0; i < upper; i += lanes) {
+				colors.intoArray(pixels, index + i);
+				depths.intoArray(depth, index + i);
+			}
+		} else {
+			final var depthOp = depthEqual ? VectorOperators.EQ : VectorOperators.GT;
+
+			for (int i = 0; i < upper; i += lanes) {
+				final var d = FloatVector.fromArray(FLOAT_SPECIES, depth, index + i);
+
+				var mask = FLOAT_SPECIES.maskAll(true);
+				if (writeOnce)
+					mask = mask.and(d.compare(VectorOperators.EQ, SoftwareRasterizer.DEPTH_CLEAR));
+				if (testDepth)
+					mask = mask.and(d.compare(depthOp, z));
+
+				if (!mask.anyTrue())
+					continue;
+
+				d.blend(depths, mask).intoArray(depth, index + i);
+				IntVector.fromArray(INT_SPECIES, pixels, index + i).blend(colors, mask.cast(INT_SPECIES)).intoArray(pixels, index + i);
+			}
+		}
+
+		if (upper < count)
+			mScalar.fillSpan(pixels, depth, index + upper, count - upper, z, color, writeOnce, depthEqual, testDepth);
+	}
+
+	@Override
+	public void shadeSpan(int[] src, int srcIndex, int[] pixels, float[] depth, int index, int count, float z, ShadeFactors shade, boolean testDepth) {
+		// clipped spans can come in empty or inverted, which the scalar loops treat as a no-op
+		if (count <= 0)
+			return;
+
+		final var lanes = INT_SPECIES.length();
+		final var upper = INT_SPECIES.loopBound(count);
+
+		final var mulA = shade.mulA;
+		final var mulR = shade.mulR;
+		final var mulG = shade.mulG;
+		final var mulB = shade.mulB;
+		final var addA = shade.addA;
+		final var addR = shade.addR;
+		final var addG = shade.addG;
+		final var addB = shade.addB;
+
+		final var depths = FloatVector.broadcast(FLOAT_SPECIES, z);
+
+		for (int i = 0; i < upper; i += lanes) {
+			final var texels = IntVector.fromArray(INT_SPECIES, src, srcIndex + i);
+			final var alpha = texels.lanewise(VectorOperators.LSHR, 24);
+
+			final var d = FloatVector.fromArray(FLOAT_SPECIES, depth, index + i);
+
+			var mask = alpha.compare(VectorOperators.NE, 0);
+			if (testDepth)
+				mask = mask.and(d.compare(VectorOperators.GT, z).cast(INT_SPECIES));
+
+			if (!mask.anyTrue())
+				continue;
+
+			final var a = alpha.mul(mulA).add(addA).lanewise(VectorOperators.LSHR, 16);
+			final var r = texels.lanewise(VectorOperators.ASHR, 16).and(0xff).mul(mulR).add(addR).lanewise(VectorOperators.LSHR, 16);
+			final var g = texels.lanewise(VectorOperators.ASHR, 8).and(0xff).mul(mulG).add(addG).lanewise(VectorOperators.LSHR, 16);
+			final var b = texels.and(0xff).mul(mulB).add(addB).lanewise(VectorOperators.LSHR, 16);
+
+			final var argb = a.lanewise(VectorOperators.LSHL, 24).or(r.lanewise(VectorOperators.LSHL, 16)).or(g.lanewise(VectorOperators.LSHL, 8)).or(b);
+
+			IntVector.fromArray(INT_SPECIES, pixels, index + i).blend(argb, mask).intoArray(pixels, index + i);
+			d.blend(depths, mask.cast(FLOAT_SPECIES)).intoArray(depth, index + i);
+		}
+
+		if (upper < count)
+			mScalar.shadeSpan(src, srcIndex + upper, pixels, depth, index + upper, count - upper, z, shade, testDepth);
+	}
+}